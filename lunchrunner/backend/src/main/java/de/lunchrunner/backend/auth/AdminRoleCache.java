@@ -0,0 +1,56 @@
+package de.lunchrunner.backend.auth;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.config.ExpiringCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+@Component
+public class AdminRoleCache {
+
+    private final ExpiringCache<String, Boolean> entries;
+
+    @Autowired
+    public AdminRoleCache(ApplicationProperties properties) {
+        this(properties.getClerkAdminRoleCacheTtl(),
+                properties.getClerkAdminRoleNegativeCacheTtl(),
+                properties.getClerkAdminRoleCacheMaxEntries(),
+                Clock.systemUTC());
+    }
+
+    AdminRoleCache(Duration positiveTtl, Duration negativeTtl, int maxEntries, Clock clock) {
+        this.entries = new ExpiringCache<>(admin -> admin ? positiveTtl : negativeTtl, maxEntries, clock);
+    }
+
+    public boolean isAdmin(String userId, Predicate<String> loader) {
+        return entries.get(userId, loader::test).value();
+    }
+
+    public boolean isAdmin(String userId, Function<String, CompletableFuture<Boolean>> lookup, Duration wait) {
+        return entries.get(userId, key -> awaitLookup(key, lookup.apply(key), wait)).value();
+    }
+
+    public void evict(String userId) {
+        entries.evict(userId);
+    }
+
+    public void evictAll() {
+        entries.evictAll();
+    }
+
+    private boolean awaitLookup(String userId, CompletableFuture<Boolean> lookup, Duration wait) {
+        lookup.thenAccept(admin -> entries.put(userId, admin));
+        return lookup.copy().orTimeout(wait.toMillis(), TimeUnit.MILLISECONDS).join();
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
@@ -12,24 +12,24 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
 import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import de.lunchrunner.backend.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.text.ParseException;
-import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 @Component
 public class ClerkAdminVerifier {
@@ -38,52 +38,87 @@ public class ClerkAdminVerifier {
 
     private final ApplicationProperties properties;
     private final ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
-    private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
-
-    public ClerkAdminVerifier(ApplicationProperties properties, ObjectMapper objectMapper) {
+    private final ClerkUsersClient clerkUsersClient;
+    private final AdminRoleCache adminRoleCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Set<String> allowedAudience;
+    private final MeterRegistry meterRegistry;
+
+    public ClerkAdminVerifier(ApplicationProperties properties,
+                              ObjectMapper objectMapper,
+                              ClerkUsersClient clerkUsersClient,
+                              AdminRoleCache adminRoleCache,
+                              VerifiedTokenCache verifiedTokenCache,
+                              JwksManager jwksManager,
+                              MeterRegistry meterRegistry) {
         this.properties = properties;
         this.objectMapper = objectMapper;
-        this.jwtProcessor = buildJwtProcessor(properties);
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(5))
-                .build();
+        this.clerkUsersClient = clerkUsersClient;
+        this.adminRoleCache = adminRoleCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.allowedAudience = parseAudience(properties.getClerkJwtAudience());
+        this.jwtProcessor = buildJwtProcessor(jwksManager);
+        this.meterRegistry = meterRegistry;
     }
 
     public ClerkSession assertAdmin(String authorizationHeader) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ClerkSession session = verifyAdmin(authorizationHeader);
+            outcome = "admin";
+            return session;
+        } catch (ResponseStatusException ex) {
+            outcome = switch (ex.getStatusCode().value()) {
+                case 401 -> "unauthorized";
+                case 403 -> "forbidden";
+                case 502, 503 -> "clerk_unavailable";
+                default -> "error";
+            };
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("lunchrunner.clerk.verification", "outcome", outcome));
+        }
+    }
+
+    private ClerkSession verifyAdmin(String authorizationHeader) {
         String token = parseToken(authorizationHeader);
         if (properties.getClerkIssuerUrl() == null || properties.getClerkIssuerUrl().isBlank()) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Clerk issuer URL not configured");
         }
+        VerifiedToken verified = verifiedTokenCache.get(token);
+        if (verified == null) {
+            verified = verify(token);
+            verifiedTokenCache.put(token, verified);
+        }
+        if (verified.adminClaim()) {
+            return verified.session();
+        }
+        if (properties.getClerkSecretKey() == null || properties.getClerkSecretKey().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Administrator permissions required");
+        }
+        if (isAdminByProfile(verified.session().userId())) {
+            return verified.session();
+        }
+        throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Administrator permissions required");
+    }
+
+    private VerifiedToken verify(String token) {
         try {
             JWTClaimsSet claims = jwtProcessor.process(token, null);
             if (claims.getIssuer() == null || !claims.getIssuer().equals(properties.getClerkIssuerUrl())) {
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid authorization token");
             }
-            if (properties.getClerkJwtAudience() != null && !properties.getClerkJwtAudience().isBlank()) {
-                Set<String> allowedAudience = java.util.Arrays.stream(properties.getClerkJwtAudience().split(","))
-                        .map(String::trim)
-                        .filter(entry -> !entry.isEmpty())
-                        .collect(java.util.stream.Collectors.toSet());
-                if (!allowedAudience.isEmpty() && claims.getAudience().stream().noneMatch(allowedAudience::contains)) {
-                    throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid authorization token");
-                }
-            }
-            String userId = Optional.ofNullable(claims.getSubject())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token missing subject"));
-            if (hasAdminRole(claims)) {
-                return buildSession(claims, token);
-            }
-            if (properties.getClerkSecretKey() == null || properties.getClerkSecretKey().isBlank()) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Administrator permissions required");
+            if (!allowedAudience.isEmpty() && claims.getAudience().stream().noneMatch(allowedAudience::contains)) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid authorization token");
             }
-            if (fetchUserHasAdminRole(userId)) {
-                return buildSession(claims, token);
+            if (claims.getSubject() == null) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token missing subject");
             }
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Administrator permissions required");
-        } catch (ResponseStatusException ex) {
-            throw ex;
-        } catch (ParseException | JOSEException ex) {
+            Instant expiresAt = claims.getExpirationTime() == null ? null : claims.getExpirationTime().toInstant();
+            return new VerifiedToken(buildSession(claims, token), hasAdminRole(claims), expiresAt);
+        } catch (ParseException | BadJOSEException | JOSEException ex) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid authorization token");
         }
     }
@@ -95,42 +130,36 @@ public class ClerkAdminVerifier {
         return new ClerkSession(claims.getSubject(), sessionId, email);
     }
 
-    private boolean fetchUserHasAdminRole(String userId) {
+    private boolean isAdminByProfile(String userId) {
         try {
-            URI uri = buildUserUri(userId);
-            HttpRequest request = HttpRequest.newBuilder(uri)
-                    .GET()
-                    .timeout(Duration.ofSeconds(5))
-                    .header("Authorization", "Bearer " + properties.getClerkSecretKey())
-                    .build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() == 404) {
-                return false;
-            }
-            if (response.statusCode() >= 400) {
-                LOGGER.warn("Failed to fetch Clerk user profile: status {}", response.statusCode());
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to verify administrator permissions");
-            }
-            JsonNode node = objectMapper.readTree(response.body());
-            return hasAdminMetadata(node.path("public_metadata")) || hasAdminMetadata(node.path("private_metadata"));
-        } catch (InterruptedException ex) {
-            Thread.currentThread().interrupt();
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to verify administrator permissions");
-        } catch (IOException ex) {
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to verify administrator permissions");
+            return adminRoleCache.isAdmin(userId, this::fetchUserHasAdminRole, properties.getClerkAdminLookupWait());
+        } catch (CompletionException ex) {
+            throw lookupFailed(userId, ex.getCause());
+        } catch (ClerkUnavailableException ex) {
+            throw lookupFailed(userId, ex);
         }
     }
 
-    private URI buildUserUri(String userId) {
-        try {
-            String base = Optional.ofNullable(properties.getClerkApiBaseUrl()).orElse("https://api.clerk.com");
-            if (!base.endsWith("/")) {
-                base = base + "/";
+    private ResponseStatusException lookupFailed(String userId, Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            LOGGER.warn("Clerk user profile lookup for {} still pending after {}, the result will be cached when it arrives",
+                    userId, properties.getClerkAdminLookupWait());
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Administrator verification temporarily unavailable");
+        }
+        if (cause instanceof ClerkUnavailableException unavailable) {
+            LOGGER.warn("Failed to fetch Clerk user profile: {}", unavailable.getMessage());
+            if (unavailable.rejected()) {
+                return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Administrator verification temporarily unavailable");
             }
-            return new URI(base + "v1/users/" + userId);
-        } catch (URISyntaxException ex) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Invalid Clerk API URL");
         }
+        return new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to verify administrator permissions");
+    }
+
+    private CompletableFuture<Boolean> fetchUserHasAdminRole(String userId) {
+        return clerkUsersClient.fetchUser(userId)
+                .thenApply(user -> user
+                        .map(profile -> hasAdminMetadata(profile.path("public_metadata")) || hasAdminMetadata(profile.path("private_metadata")))
+                        .orElse(false));
     }
 
     private boolean hasAdminRole(JWTClaimsSet claims) throws ParseException {
@@ -186,6 +215,16 @@ public class ClerkAdminVerifier {
         return false;
     }
 
+    private Set<String> parseAudience(String audience) {
+        if (audience == null || audience.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(audience.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     private String parseToken(String header) {
         if (header == null || header.isBlank()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authorization header with Bearer token is required");
@@ -196,16 +235,10 @@ public class ClerkAdminVerifier {
         return header.substring("bearer ".length()).trim();
     }
 
-    private ConfigurableJWTProcessor<SecurityContext> buildJwtProcessor(ApplicationProperties properties) {
-        try {
-            URL jwksUrl = new URL(properties.getClerkIssuerUrl().replaceAll("/+$", "") + "/.well-known/jwks.json");
-            ConfigurableJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
-            JWSAlgorithm expectedJwsAlgorithm = JWSAlgorithm.RS256;
-            JWSKeySelector<SecurityContext> keySelector = new JWSVerificationKeySelector<>(expectedJwsAlgorithm, new RemoteJWKSet<>(jwksUrl));
-            processor.setJWSKeySelector(keySelector);
-            return processor;
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to configure Clerk JWT processor", ex);
-        }
+    private ConfigurableJWTProcessor<SecurityContext> buildJwtProcessor(JwksManager jwksManager) {
+        ConfigurableJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        JWSKeySelector<SecurityContext> keySelector = new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwksManager);
+        processor.setJWSKeySelector(keySelector);
+        return processor;
     }
 }
@@ -0,0 +1,20 @@
+package de.lunchrunner.backend.auth;
+
+public class ClerkUnavailableException extends RuntimeException {
+
+    private final boolean rejected;
+
+    public ClerkUnavailableException(String message, boolean rejected) {
+        super(message);
+        this.rejected = rejected;
+    }
+
+    public ClerkUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+        this.rejected = false;
+    }
+
+    public boolean rejected() {
+        return rejected;
+    }
+}
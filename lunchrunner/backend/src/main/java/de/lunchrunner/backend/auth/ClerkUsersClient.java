@@ -0,0 +1,141 @@
+package de.lunchrunner.backend.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.config.ExecutionThreads;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ClerkUsersClient {
+
+    private static final int HTTP_WORKER_THREADS = 2;
+
+    private final String apiBaseUrl;
+    private final String secretKey;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final Semaphore permits;
+    private final CircuitBreaker circuitBreaker;
+
+    @Autowired
+    public ClerkUsersClient(ApplicationProperties properties, ObjectMapper objectMapper, ExecutionThreads executionThreads) {
+        this(Optional.ofNullable(properties.getClerkApiBaseUrl()).orElse("https://api.clerk.com"),
+                properties.getClerkSecretKey(),
+                objectMapper,
+                buildHttpClient(properties.getClerkApiTimeout(), httpExecutor(executionThreads)),
+                properties.getClerkApiTimeout(),
+                properties.getClerkApiMaxConcurrentRequests(),
+                new CircuitBreaker(properties.getClerkApiCircuitFailureThreshold(),
+                        properties.getClerkApiCircuitOpenDuration(),
+                        Clock.systemUTC()));
+    }
+
+    ClerkUsersClient(String apiBaseUrl,
+                     String secretKey,
+                     ObjectMapper objectMapper,
+                     HttpClient httpClient,
+                     Duration timeout,
+                     int maxConcurrentRequests,
+                     CircuitBreaker circuitBreaker) {
+        this.apiBaseUrl = apiBaseUrl.endsWith("/") ? apiBaseUrl : apiBaseUrl + "/";
+        this.secretKey = secretKey;
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.timeout = timeout;
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public CompletableFuture<Optional<JsonNode>> fetchUser(String userId) {
+        URI uri = buildUserUri(userId);
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ClerkUnavailableException("Too many concurrent Clerk API requests", true));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            return CompletableFuture.failedFuture(new ClerkUnavailableException("Clerk API circuit is open", true));
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .GET()
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + secretKey)
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((response, error) -> {
+                    permits.release();
+                    if (error != null) {
+                        circuitBreaker.onFailure();
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        throw new ClerkUnavailableException("Clerk API request failed", cause);
+                    }
+                    int status = response.statusCode();
+                    if (status >= 500 || status == 429) {
+                        circuitBreaker.onFailure();
+                        throw new ClerkUnavailableException("Clerk API returned status " + status, false);
+                    }
+                    circuitBreaker.onSuccess();
+                    if (status == 404) {
+                        return Optional.empty();
+                    }
+                    if (status >= 400) {
+                        throw new ClerkUnavailableException("Clerk API returned status " + status, false);
+                    }
+                    try {
+                        return Optional.of(objectMapper.readTree(response.body()));
+                    } catch (JsonProcessingException ex) {
+                        throw new ClerkUnavailableException("Invalid Clerk API response", ex);
+                    }
+                });
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private URI buildUserUri(String userId) {
+        try {
+            return new URI(apiBaseUrl + "v1/users/" + userId);
+        } catch (URISyntaxException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Invalid Clerk API URL");
+        }
+    }
+
+    static ExecutorService httpExecutor(ExecutionThreads executionThreads) {
+        return executionThreads.virtual()
+                ? executionThreads.newTaskExecutor("clerk-http-")
+                : Executors.newFixedThreadPool(HTTP_WORKER_THREADS, executionThreads.threadFactory("clerk-http"));
+    }
+
+    static HttpClient buildHttpClient(Duration connectTimeout, ExecutorService executor) {
+        return HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+    }
+}
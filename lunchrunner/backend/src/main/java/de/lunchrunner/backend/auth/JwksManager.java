@@ -0,0 +1,192 @@
+package de.lunchrunner.backend.auth;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.config.ExecutionThreads;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class JwksManager implements JWKSource<SecurityContext> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwksManager.class);
+    private static final Duration ON_DEMAND_REFRESH_GAP = Duration.ofSeconds(30);
+
+    private final URI jwksUri;
+    private final HttpClient httpClient;
+    private final Duration refreshInterval;
+    private final Duration timeout;
+    private final Duration onDemandRefreshGap;
+    private final ScheduledExecutorService scheduler;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final AtomicReference<JWKSet> keys = new AtomicReference<>();
+    private final Object onDemandLock = new Object();
+    private volatile Instant lastSuccess;
+    private long lastOnDemandRefresh;
+
+    @Autowired
+    public JwksManager(ApplicationProperties properties, MeterRegistry meterRegistry, ExecutionThreads executionThreads) {
+        this(jwksUri(properties.getClerkIssuerUrl()),
+                HttpClient.newBuilder().connectTimeout(properties.getClerkJwksTimeout()).build(),
+                properties.getClerkJwksRefreshInterval(),
+                properties.getClerkJwksTimeout(),
+                ON_DEMAND_REFRESH_GAP,
+                meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(executionThreads.threadFactory("jwks-refresh")));
+    }
+
+    JwksManager(URI jwksUri,
+                HttpClient httpClient,
+                Duration refreshInterval,
+                Duration timeout,
+                Duration onDemandRefreshGap,
+                MeterRegistry meterRegistry,
+                ScheduledExecutorService scheduler) {
+        this.jwksUri = jwksUri;
+        this.httpClient = httpClient;
+        this.refreshInterval = refreshInterval;
+        this.timeout = timeout;
+        this.onDemandRefreshGap = onDemandRefreshGap;
+        this.scheduler = scheduler;
+        this.successTimer = Timer.builder("lunchrunner.clerk.jwks.refresh")
+                .description("Clerk JWKS refresh latency")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("lunchrunner.clerk.jwks.refresh")
+                .description("Clerk JWKS refresh latency")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        Gauge.builder("lunchrunner.clerk.jwks.age", this, JwksManager::keyAgeSeconds)
+                .description("Seconds since the last successful JWKS refresh")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("lunchrunner.clerk.jwks.keys", this, manager -> {
+                    JWKSet current = manager.keys.get();
+                    return current == null ? 0 : current.getKeys().size();
+                })
+                .description("Number of cached Clerk signing keys")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (jwksUri == null) {
+            LOGGER.warn("Clerk issuer URL not configured, JWKS refresh disabled");
+            return;
+        }
+        long interval = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean refresh() {
+        if (jwksUri == null) {
+            return false;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                    .GET()
+                    .timeout(timeout)
+                    .header("Accept", "application/json")
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("JWKS endpoint returned status " + response.statusCode());
+            }
+            JWKSet fetched = JWKSet.parse(response.body());
+            if (fetched.getKeys().isEmpty()) {
+                throw new IOException("JWKS endpoint returned no keys");
+            }
+            keys.set(fetched);
+            lastSuccess = Instant.now();
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (IOException | ParseException | RuntimeException ex) {
+            recordFailure(startedAt, ex);
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            recordFailure(startedAt, ex);
+            return false;
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        List<JWK> matches = select(jwkSelector);
+        if (matches.isEmpty() && refreshOnDemand()) {
+            matches = select(jwkSelector);
+        }
+        return matches;
+    }
+
+    private List<JWK> select(JWKSelector jwkSelector) {
+        JWKSet current = keys.get();
+        return current == null ? List.of() : jwkSelector.select(current);
+    }
+
+    private boolean refreshOnDemand() {
+        synchronized (onDemandLock) {
+            long now = System.nanoTime();
+            if (lastOnDemandRefresh != 0 && now - lastOnDemandRefresh < onDemandRefreshGap.toNanos()) {
+                return false;
+            }
+            lastOnDemandRefresh = now;
+        }
+        return refresh();
+    }
+
+    private void recordFailure(long startedAt, Exception ex) {
+        failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        JWKSet current = keys.get();
+        LOGGER.warn("Failed to refresh Clerk JWKS from {}, serving {} cached key(s): {}",
+                jwksUri, current == null ? 0 : current.getKeys().size(), ex.getMessage());
+    }
+
+    private double keyAgeSeconds() {
+        Instant success = lastSuccess;
+        if (success == null) {
+            return Double.NaN;
+        }
+        return Duration.between(success, Instant.now()).toMillis() / 1000.0;
+    }
+
+    private static URI jwksUri(String issuerUrl) {
+        if (issuerUrl == null || issuerUrl.isBlank()) {
+            return null;
+        }
+        return URI.create(issuerUrl.replaceAll("/+$", "") + "/.well-known/jwks.json");
+    }
+}
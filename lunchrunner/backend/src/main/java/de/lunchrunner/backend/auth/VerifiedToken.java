@@ -0,0 +1,6 @@
+package de.lunchrunner.backend.auth;
+
+import java.time.Instant;
+
+record VerifiedToken(ClerkSession session, boolean adminClaim, Instant expiresAt) {
+}
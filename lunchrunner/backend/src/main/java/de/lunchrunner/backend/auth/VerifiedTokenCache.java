@@ -0,0 +1,79 @@
+package de.lunchrunner.backend.auth;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VerifiedTokenCache(ApplicationProperties properties) {
+        this(properties.getClerkVerifiedTokenCacheMaxEntries(), Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    VerifiedToken get(String token) {
+        String key = hash(token);
+        VerifiedToken verified = entries.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (!verified.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    void put(String token, VerifiedToken verified) {
+        if (verified.expiresAt() == null || maxEntries <= 0) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (!verified.expiresAt().isAfter(now)) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(hash(token), verified);
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -2,9 +2,26 @@ package de.lunchrunner.backend.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "lunchrunner")
 public class ApplicationProperties {
 
+    public enum PricingMode {
+        DECIMAL,
+        FIXED_POINT
+    }
+
+    public enum PartitionExpiry {
+        DETACH,
+        DROP
+    }
+
+    public enum RealtimeFanout {
+        LOCAL,
+        POSTGRES
+    }
+
     private String environment = "production";
     private String corsOrigin = "https://lunchrunner.de";
     private String clerkPublishableKey;
@@ -14,11 +31,42 @@ public class ApplicationProperties {
     private String clerkJwtTemplate;
     private String clerkApiBaseUrl = "https://api.clerk.com";
     private String clerkAdminRole = "admin";
+    private Duration clerkApiTimeout = Duration.ofSeconds(3);
+    private int clerkApiMaxConcurrentRequests = 16;
+    private int clerkApiCircuitFailureThreshold = 5;
+    private Duration clerkApiCircuitOpenDuration = Duration.ofSeconds(30);
+    private Duration clerkAdminLookupWait = Duration.ofSeconds(1);
+    private Duration clerkAdminRoleCacheTtl = Duration.ofMinutes(5);
+    private Duration clerkAdminRoleNegativeCacheTtl = Duration.ofSeconds(30);
+    private int clerkAdminRoleCacheMaxEntries = 1000;
+    private int clerkVerifiedTokenCacheMaxEntries = 10000;
+    private Duration clerkJwksRefreshInterval = Duration.ofMinutes(5);
+    private Duration clerkJwksTimeout = Duration.ofSeconds(5);
     private String clerkSignInUrl;
     private String clerkSignUpUrl;
     private int socketIoPort = 3300;
     private String socketIoPath = "/socket.io";
     private boolean socketIoEnabled = true;
+    private PricingMode pricingMode = PricingMode.DECIMAL;
+    private Duration realtimeCoalesceWindow = Duration.ofMillis(50);
+    private int realtimeMaxBatchEvents = 50;
+    private RealtimeFanout realtimeFanout = RealtimeFanout.LOCAL;
+    private String boardTimeZone = "Europe/Berlin";
+    private Duration idempotencyKeyTtl = Duration.ofHours(1);
+    private int idempotencyMaxEntries = 10000;
+    private int orderRetentionMonths = 0;
+    private int orderPartitionsAhead = 2;
+    private PartitionExpiry orderPartitionExpiry = PartitionExpiry.DETACH;
+    private int databasePoolMaxSize = 10;
+    private int databasePoolMinIdle = 2;
+    private Duration databaseConnectionTimeout = Duration.ofSeconds(5);
+    private Duration databaseIdleTimeout = Duration.ofMinutes(10);
+    private Duration databaseMaxLifetime = Duration.ofMinutes(30);
+    private Duration databaseLeakDetectionThreshold = Duration.ofSeconds(30);
+    private int databaseExportPoolMaxSize = 2;
+    private Duration databaseExportLeakDetectionThreshold = Duration.ofMinutes(15);
+    private int databasePrepareThreshold = 5;
+    private int databasePreparedStatementCacheQueries = 256;
 
     public String getEnvironment() {
         return environment;
@@ -131,4 +179,252 @@ public class ApplicationProperties {
     public void setSocketIoEnabled(boolean socketIoEnabled) {
         this.socketIoEnabled = socketIoEnabled;
     }
+
+    public PricingMode getPricingMode() {
+        return pricingMode;
+    }
+
+    public void setPricingMode(PricingMode pricingMode) {
+        this.pricingMode = pricingMode;
+    }
+
+    public Duration getRealtimeCoalesceWindow() {
+        return realtimeCoalesceWindow;
+    }
+
+    public void setRealtimeCoalesceWindow(Duration realtimeCoalesceWindow) {
+        this.realtimeCoalesceWindow = realtimeCoalesceWindow;
+    }
+
+    public int getRealtimeMaxBatchEvents() {
+        return realtimeMaxBatchEvents;
+    }
+
+    public void setRealtimeMaxBatchEvents(int realtimeMaxBatchEvents) {
+        this.realtimeMaxBatchEvents = realtimeMaxBatchEvents;
+    }
+
+    public RealtimeFanout getRealtimeFanout() {
+        return realtimeFanout;
+    }
+
+    public void setRealtimeFanout(RealtimeFanout realtimeFanout) {
+        this.realtimeFanout = realtimeFanout;
+    }
+
+    public String getBoardTimeZone() {
+        return boardTimeZone;
+    }
+
+    public void setBoardTimeZone(String boardTimeZone) {
+        this.boardTimeZone = boardTimeZone;
+    }
+
+    public Duration getIdempotencyKeyTtl() {
+        return idempotencyKeyTtl;
+    }
+
+    public void setIdempotencyKeyTtl(Duration idempotencyKeyTtl) {
+        this.idempotencyKeyTtl = idempotencyKeyTtl;
+    }
+
+    public int getIdempotencyMaxEntries() {
+        return idempotencyMaxEntries;
+    }
+
+    public void setIdempotencyMaxEntries(int idempotencyMaxEntries) {
+        this.idempotencyMaxEntries = idempotencyMaxEntries;
+    }
+
+    public int getOrderRetentionMonths() {
+        return orderRetentionMonths;
+    }
+
+    public void setOrderRetentionMonths(int orderRetentionMonths) {
+        this.orderRetentionMonths = orderRetentionMonths;
+    }
+
+    public int getOrderPartitionsAhead() {
+        return orderPartitionsAhead;
+    }
+
+    public void setOrderPartitionsAhead(int orderPartitionsAhead) {
+        this.orderPartitionsAhead = orderPartitionsAhead;
+    }
+
+    public PartitionExpiry getOrderPartitionExpiry() {
+        return orderPartitionExpiry;
+    }
+
+    public void setOrderPartitionExpiry(PartitionExpiry orderPartitionExpiry) {
+        this.orderPartitionExpiry = orderPartitionExpiry;
+    }
+
+    public int getDatabasePoolMaxSize() {
+        return databasePoolMaxSize;
+    }
+
+    public void setDatabasePoolMaxSize(int databasePoolMaxSize) {
+        this.databasePoolMaxSize = databasePoolMaxSize;
+    }
+
+    public int getDatabasePoolMinIdle() {
+        return databasePoolMinIdle;
+    }
+
+    public void setDatabasePoolMinIdle(int databasePoolMinIdle) {
+        this.databasePoolMinIdle = databasePoolMinIdle;
+    }
+
+    public Duration getDatabaseConnectionTimeout() {
+        return databaseConnectionTimeout;
+    }
+
+    public void setDatabaseConnectionTimeout(Duration databaseConnectionTimeout) {
+        this.databaseConnectionTimeout = databaseConnectionTimeout;
+    }
+
+    public Duration getDatabaseIdleTimeout() {
+        return databaseIdleTimeout;
+    }
+
+    public void setDatabaseIdleTimeout(Duration databaseIdleTimeout) {
+        this.databaseIdleTimeout = databaseIdleTimeout;
+    }
+
+    public Duration getDatabaseMaxLifetime() {
+        return databaseMaxLifetime;
+    }
+
+    public void setDatabaseMaxLifetime(Duration databaseMaxLifetime) {
+        this.databaseMaxLifetime = databaseMaxLifetime;
+    }
+
+    public Duration getDatabaseLeakDetectionThreshold() {
+        return databaseLeakDetectionThreshold;
+    }
+
+    public void setDatabaseLeakDetectionThreshold(Duration databaseLeakDetectionThreshold) {
+        this.databaseLeakDetectionThreshold = databaseLeakDetectionThreshold;
+    }
+
+    public int getDatabaseExportPoolMaxSize() {
+        return databaseExportPoolMaxSize;
+    }
+
+    public void setDatabaseExportPoolMaxSize(int databaseExportPoolMaxSize) {
+        this.databaseExportPoolMaxSize = databaseExportPoolMaxSize;
+    }
+
+    public Duration getDatabaseExportLeakDetectionThreshold() {
+        return databaseExportLeakDetectionThreshold;
+    }
+
+    public void setDatabaseExportLeakDetectionThreshold(Duration databaseExportLeakDetectionThreshold) {
+        this.databaseExportLeakDetectionThreshold = databaseExportLeakDetectionThreshold;
+    }
+
+    public int getDatabasePrepareThreshold() {
+        return databasePrepareThreshold;
+    }
+
+    public void setDatabasePrepareThreshold(int databasePrepareThreshold) {
+        this.databasePrepareThreshold = databasePrepareThreshold;
+    }
+
+    public int getDatabasePreparedStatementCacheQueries() {
+        return databasePreparedStatementCacheQueries;
+    }
+
+    public void setDatabasePreparedStatementCacheQueries(int databasePreparedStatementCacheQueries) {
+        this.databasePreparedStatementCacheQueries = databasePreparedStatementCacheQueries;
+    }
+
+    public Duration getClerkAdminRoleCacheTtl() {
+        return clerkAdminRoleCacheTtl;
+    }
+
+    public void setClerkAdminRoleCacheTtl(Duration clerkAdminRoleCacheTtl) {
+        this.clerkAdminRoleCacheTtl = clerkAdminRoleCacheTtl;
+    }
+
+    public Duration getClerkAdminRoleNegativeCacheTtl() {
+        return clerkAdminRoleNegativeCacheTtl;
+    }
+
+    public void setClerkAdminRoleNegativeCacheTtl(Duration clerkAdminRoleNegativeCacheTtl) {
+        this.clerkAdminRoleNegativeCacheTtl = clerkAdminRoleNegativeCacheTtl;
+    }
+
+    public int getClerkAdminRoleCacheMaxEntries() {
+        return clerkAdminRoleCacheMaxEntries;
+    }
+
+    public void setClerkAdminRoleCacheMaxEntries(int clerkAdminRoleCacheMaxEntries) {
+        this.clerkAdminRoleCacheMaxEntries = clerkAdminRoleCacheMaxEntries;
+    }
+
+    public int getClerkVerifiedTokenCacheMaxEntries() {
+        return clerkVerifiedTokenCacheMaxEntries;
+    }
+
+    public void setClerkVerifiedTokenCacheMaxEntries(int clerkVerifiedTokenCacheMaxEntries) {
+        this.clerkVerifiedTokenCacheMaxEntries = clerkVerifiedTokenCacheMaxEntries;
+    }
+
+    public Duration getClerkJwksRefreshInterval() {
+        return clerkJwksRefreshInterval;
+    }
+
+    public void setClerkJwksRefreshInterval(Duration clerkJwksRefreshInterval) {
+        this.clerkJwksRefreshInterval = clerkJwksRefreshInterval;
+    }
+
+    public Duration getClerkJwksTimeout() {
+        return clerkJwksTimeout;
+    }
+
+    public void setClerkJwksTimeout(Duration clerkJwksTimeout) {
+        this.clerkJwksTimeout = clerkJwksTimeout;
+    }
+
+    public Duration getClerkApiTimeout() {
+        return clerkApiTimeout;
+    }
+
+    public void setClerkApiTimeout(Duration clerkApiTimeout) {
+        this.clerkApiTimeout = clerkApiTimeout;
+    }
+
+    public Duration getClerkAdminLookupWait() {
+        return clerkAdminLookupWait;
+    }
+
+    public void setClerkAdminLookupWait(Duration clerkAdminLookupWait) {
+        this.clerkAdminLookupWait = clerkAdminLookupWait;
+    }
+
+    public int getClerkApiMaxConcurrentRequests() {
+        return clerkApiMaxConcurrentRequests;
+    }
+
+    public void setClerkApiMaxConcurrentRequests(int clerkApiMaxConcurrentRequests) {
+        this.clerkApiMaxConcurrentRequests = clerkApiMaxConcurrentRequests;
+    }
+
+    public int getClerkApiCircuitFailureThreshold() {
+        return clerkApiCircuitFailureThreshold;
+    }
+
+    public void setClerkApiCircuitFailureThreshold(int clerkApiCircuitFailureThreshold) {
+        this.clerkApiCircuitFailureThreshold = clerkApiCircuitFailureThreshold;
+    }
+
+    public Duration getClerkApiCircuitOpenDuration() {
+        return clerkApiCircuitOpenDuration;
+    }
+
+    public void setClerkApiCircuitOpenDuration(Duration clerkApiCircuitOpenDuration) {
+        this.clerkApiCircuitOpenDuration = clerkApiCircuitOpenDuration;
+    }
 }
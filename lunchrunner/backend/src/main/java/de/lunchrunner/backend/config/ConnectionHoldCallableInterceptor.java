@@ -0,0 +1,29 @@
+package de.lunchrunner.backend.config;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+public class ConnectionHoldCallableInterceptor implements CallableProcessingInterceptor {
+
+    private final ConnectionHoldMonitor connectionHoldMonitor;
+
+    public ConnectionHoldCallableInterceptor(ConnectionHoldMonitor connectionHoldMonitor) {
+        this.connectionHoldMonitor = connectionHoldMonitor;
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object state = request.getAttribute(ConnectionHoldFilter.HOLD_STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state instanceof ConnectionHoldMonitor.HoldState holdState) {
+            connectionHoldMonitor.bind(holdState);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        connectionHoldMonitor.unbind();
+    }
+}
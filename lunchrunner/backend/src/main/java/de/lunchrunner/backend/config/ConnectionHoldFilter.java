@@ -0,0 +1,69 @@
+package de.lunchrunner.backend.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Component
+public class ConnectionHoldFilter extends OncePerRequestFilter {
+
+    static final String HOLD_STATE_ATTRIBUTE = ConnectionHoldFilter.class.getName() + ".HOLD_STATE";
+
+    private final ConnectionHoldMonitor connectionHoldMonitor;
+
+    public ConnectionHoldFilter(ConnectionHoldMonitor connectionHoldMonitor) {
+        this.connectionHoldMonitor = connectionHoldMonitor;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ConnectionHoldMonitor.HoldState state = connectionHoldMonitor.beginRequest();
+        request.setAttribute(HOLD_STATE_ATTRIBUTE, state);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            connectionHoldMonitor.unbind();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        endRequest(request, state);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                endRequest(request, state);
+            }
+        }
+    }
+
+    private void endRequest(HttpServletRequest request, ConnectionHoldMonitor.HoldState state) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        connectionHoldMonitor.endRequest(state, pattern == null ? "UNKNOWN" : pattern.toString());
+    }
+}
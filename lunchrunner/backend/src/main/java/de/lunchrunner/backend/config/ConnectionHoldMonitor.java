@@ -0,0 +1,117 @@
+package de.lunchrunner.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ConnectionHoldMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionHoldMonitor.class);
+    private static final ThreadLocal<HoldState> HOLD_STATE = ThreadLocal.withInitial(HoldState::new);
+
+    private final MeterRegistry meterRegistry;
+    private final Timer holdTimer;
+    private final Counter statementCounter;
+
+    public ConnectionHoldMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.holdTimer = Timer.builder("lunchrunner.db.connection.hold")
+                .description("Time between connection checkout and close")
+                .register(meterRegistry);
+        this.statementCounter = Counter.builder("lunchrunner.db.statements")
+                .description("Statements created on pooled connections, from JPA and JdbcTemplate alike")
+                .register(meterRegistry);
+    }
+
+    public DataSource track(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return wrap(obtainTargetDataSource().getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return wrap(obtainTargetDataSource().getConnection(username, password));
+            }
+        };
+    }
+
+    public boolean flagIfHolding(String phase) {
+        int open = HOLD_STATE.get().open.get();
+        if (open <= 0) {
+            return false;
+        }
+        meterRegistry.counter("lunchrunner.db.connection.held.during", "phase", phase).increment();
+        LOGGER.warn("{} database connection(s) held on {} during {}", open, Thread.currentThread().getName(), phase);
+        return true;
+    }
+
+    HoldState beginRequest() {
+        HoldState state = new HoldState();
+        HOLD_STATE.set(state);
+        return state;
+    }
+
+    void bind(HoldState state) {
+        HOLD_STATE.set(state);
+    }
+
+    void unbind() {
+        HOLD_STATE.remove();
+    }
+
+    void endRequest(HoldState state, String uri) {
+        Timer.builder("lunchrunner.db.connection.request.hold")
+                .description("Total connection hold time per HTTP request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(state.heldNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    private Connection wrap(Connection connection) {
+        HoldState state = HOLD_STATE.get();
+        state.open.incrementAndGet();
+        long acquiredAt = System.nanoTime();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare") || "createStatement".equals(method.getName())) {
+                        statementCounter.increment();
+                    }
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        long held = System.nanoTime() - acquiredAt;
+                        state.open.decrementAndGet();
+                        state.heldNanos.addAndGet(held);
+                        holdTimer.record(held, TimeUnit.NANOSECONDS);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    static final class HoldState {
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicLong heldNanos = new AtomicLong();
+    }
+}
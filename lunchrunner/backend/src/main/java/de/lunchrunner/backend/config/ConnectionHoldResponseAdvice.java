@@ -0,0 +1,35 @@
+package de.lunchrunner.backend.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@RestControllerAdvice
+public class ConnectionHoldResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ConnectionHoldMonitor connectionHoldMonitor;
+
+    public ConnectionHoldResponseAdvice(ConnectionHoldMonitor connectionHoldMonitor) {
+        this.connectionHoldMonitor = connectionHoldMonitor;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        connectionHoldMonitor.flagIfHolding("serialization");
+        return body;
+    }
+}
@@ -1,5 +1,7 @@
 package de.lunchrunner.backend.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,19 +11,42 @@ import org.springframework.core.env.Environment;
 import javax.sql.DataSource;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 
 @Configuration
 public class DataSourceConfiguration {
 
     private final Environment environment;
+    private final ApplicationProperties properties;
 
-    public DataSourceConfiguration(Environment environment) {
+    public DataSourceConfiguration(Environment environment, ApplicationProperties properties) {
         this.environment = environment;
+        this.properties = properties;
     }
 
     @Bean
     @Primary
-    public DataSource dataSource() {
+    public DataSource dataSource(MeterRegistry meterRegistry, ConnectionHoldMonitor connectionHoldMonitor) {
+        HikariDataSource dataSource = createPool("lunchrunner",
+                properties.getDatabasePoolMaxSize(),
+                properties.getDatabasePoolMinIdle(),
+                properties.getDatabaseLeakDetectionThreshold(),
+                meterRegistry);
+        return connectionHoldMonitor.track(dataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExportDatabase exportDatabase(MeterRegistry meterRegistry, ConnectionHoldMonitor connectionHoldMonitor) {
+        HikariDataSource pool = createPool("lunchrunner-export",
+                properties.getDatabaseExportPoolMaxSize(),
+                0,
+                properties.getDatabaseExportLeakDetectionThreshold(),
+                meterRegistry);
+        return new ExportDatabase(pool, connectionHoldMonitor.track(pool));
+    }
+
+    private HikariDataSource createPool(String poolName, int maxSize, int minIdle, Duration leakDetectionThreshold,
+                                        MeterRegistry meterRegistry) {
         String jdbcUrl = environment.getProperty("SPRING_DATASOURCE_URL");
         String username = environment.getProperty("SPRING_DATASOURCE_USERNAME");
         String password = environment.getProperty("SPRING_DATASOURCE_PASSWORD");
@@ -41,7 +66,8 @@ public class DataSourceConfiguration {
         if (jdbcUrl == null || jdbcUrl.isBlank()) {
             throw new IllegalStateException("Database URL is not configured");
         }
-        DataSourceBuilder<?> builder = DataSourceBuilder.create()
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
                 .driverClassName("org.postgresql.Driver")
                 .url(jdbcUrl);
         if (username != null) {
@@ -50,7 +76,19 @@ public class DataSourceConfiguration {
         if (password != null) {
             builder.password(password);
         }
-        return builder.build();
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(maxSize);
+        dataSource.setMinimumIdle(minIdle);
+        dataSource.setConnectionTimeout(properties.getDatabaseConnectionTimeout().toMillis());
+        dataSource.setIdleTimeout(properties.getDatabaseIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(properties.getDatabaseMaxLifetime().toMillis());
+        dataSource.setLeakDetectionThreshold(leakDetectionThreshold.toMillis());
+        dataSource.addDataSourceProperty("prepareThreshold", properties.getDatabasePrepareThreshold());
+        dataSource.addDataSourceProperty("preparedStatementCacheQueries", properties.getDatabasePreparedStatementCacheQueries());
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", true);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
     }
 
     private ParsedDatabaseUrl parseDatabaseUrl(String databaseUrl) {
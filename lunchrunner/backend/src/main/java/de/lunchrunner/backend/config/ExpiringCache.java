@@ -0,0 +1,114 @@
+package de.lunchrunner.backend.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class ExpiringCache<K, V> {
+
+    private final Function<? super V, Duration> ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>();
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public ExpiringCache(Function<? super V, Duration> ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public Lookup<V> get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return new Lookup<>(cached, false);
+        }
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return new Lookup<>(await(existing), false);
+        }
+        try {
+            cached = getIfPresent(key);
+            if (cached != null) {
+                pending.complete(cached);
+                return new Lookup<>(cached, false);
+            }
+            V value = loader.apply(key);
+            put(key, value);
+            pending.complete(value);
+            return new Lookup<>(value, true);
+        } catch (RuntimeException ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void evictAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        Duration valueTtl = ttl.apply(value);
+        if (valueTtl.isZero() || valueTtl.isNegative() || maxEntries <= 0) {
+            return;
+        }
+        Instant now = clock.instant();
+        entries.remove(key);
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> eldest = iterator.next();
+            if (entries.size() < maxEntries && eldest.expiresAt().isAfter(now)) {
+                break;
+            }
+            iterator.remove();
+        }
+        entries.put(key, new Entry<>(value, now.plus(valueTtl)));
+    }
+
+    private V await(CompletableFuture<V> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public record Lookup<V>(V value, boolean loaded) {
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
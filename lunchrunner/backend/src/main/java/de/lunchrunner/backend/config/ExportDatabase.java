@@ -0,0 +1,35 @@
+package de.lunchrunner.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+public class ExportDatabase implements AutoCloseable {
+
+    private final HikariDataSource pool;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    ExportDatabase(HikariDataSource pool, DataSource trackedPool) {
+        this.pool = pool;
+        this.jdbcTemplate = new JdbcTemplate(trackedPool);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(trackedPool));
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public void readOnly(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
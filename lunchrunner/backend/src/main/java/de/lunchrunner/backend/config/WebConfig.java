@@ -1,6 +1,10 @@
 package de.lunchrunner.backend.config;
 
+import de.lunchrunner.backend.service.BoardSequence;
+import de.lunchrunner.backend.service.IdempotencyStore;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -9,9 +13,16 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final ApplicationProperties properties;
+    private final ConnectionHoldMonitor connectionHoldMonitor;
 
-    public WebConfig(ApplicationProperties properties) {
+    public WebConfig(ApplicationProperties properties, ConnectionHoldMonitor connectionHoldMonitor) {
         this.properties = properties;
+        this.connectionHoldMonitor = connectionHoldMonitor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ConnectionHoldCallableInterceptor(connectionHoldMonitor));
     }
 
     @Override
@@ -21,6 +32,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(origin)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(BoardSequence.HEADER_NAME, HttpHeaders.ETAG, IdempotencyStore.REPLAYED_HEADER_NAME)
                 .allowCredentials(true);
     }
 
@@ -0,0 +1,47 @@
+package de.lunchrunner.backend.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "board_resets")
+public class BoardResetEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "reset_at", nullable = false)
+    private OffsetDateTime resetAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (resetAt == null) {
+            resetAt = OffsetDateTime.now();
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public OffsetDateTime getResetAt() {
+        return resetAt;
+    }
+
+    public void setResetAt(OffsetDateTime resetAt) {
+        this.resetAt = resetAt;
+    }
+}
@@ -0,0 +1,11 @@
+package de.lunchrunner.backend.data.repository;
+
+import de.lunchrunner.backend.data.entity.BoardResetEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface BoardResetRepository extends JpaRepository<BoardResetEntity, Long> {
+
+    Optional<BoardResetEntity> findFirstByOrderByResetAtDesc();
+}
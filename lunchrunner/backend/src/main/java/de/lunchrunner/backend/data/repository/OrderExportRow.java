@@ -0,0 +1,15 @@
+package de.lunchrunner.backend.data.repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record OrderExportRow(UUID id,
+                             UUID deviceId,
+                             String customerName,
+                             String itemsJson,
+                             BigDecimal totalPriceGross,
+                             String currencyCode,
+                             OffsetDateTime createdAt,
+                             OffsetDateTime updatedAt) {
+}
@@ -0,0 +1,128 @@
+package de.lunchrunner.backend.data.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.config.ExportDatabase;
+import de.lunchrunner.backend.data.entity.OrderEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+public class OrderJdbcRepository {
+
+    private static final int INSERT_BATCH_SIZE = 50;
+    private static final String INSERT_SQL = """
+            INSERT INTO orders (id, device_id, customer_name, items, total_price_gross, currency_code, created_at, updated_at, version)
+            VALUES (?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, 0)
+            """;
+    private static final String UPDATE_OWNED_SQL = """
+            UPDATE orders
+            SET customer_name = ?, items = CAST(? AS jsonb), total_price_gross = ?,
+                currency_code = COALESCE(?, currency_code), version = version + 1
+            WHERE id = ? AND device_id = ? AND version = ? AND created_at >= ?
+            RETURNING currency_code, created_at, updated_at, version
+            """;
+    private static final String DELETE_OWNED_SQL =
+            "DELETE FROM orders WHERE id = ? AND device_id = ? AND version = ? AND created_at >= ?";
+    private static final String OWNERSHIP_SQL = "SELECT device_id, version FROM orders WHERE id = ? AND created_at >= ?";
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final String EXPORT_SQL = """
+            SELECT id, device_id, customer_name, items::text AS items, total_price_gross, currency_code, created_at, updated_at
+            FROM orders
+            WHERE created_at >= ? AND created_at < ?
+            ORDER BY created_at, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExportDatabase exportDatabase;
+    private final ObjectMapper objectMapper;
+
+    public OrderJdbcRepository(JdbcTemplate jdbcTemplate, ExportDatabase exportDatabase, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportDatabase = exportDatabase;
+        this.objectMapper = objectMapper;
+    }
+
+    public void insertAll(List<OrderEntity> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, orders, INSERT_BATCH_SIZE, (statement, order) -> {
+            statement.setObject(1, order.getId());
+            statement.setObject(2, order.getDeviceId());
+            statement.setString(3, order.getCustomerName());
+            statement.setString(4, toJson(order));
+            statement.setBigDecimal(5, order.getTotalPriceGross());
+            statement.setString(6, order.getCurrencyCode());
+            statement.setObject(7, order.getCreatedAt());
+            statement.setObject(8, order.getUpdatedAt());
+        });
+    }
+
+    public Optional<OrderEntity> updateOwned(OrderEntity order, long expectedVersion, OffsetDateTime createdSince) {
+        List<OrderEntity> updated = jdbcTemplate.query(UPDATE_OWNED_SQL, statement -> {
+            statement.setString(1, order.getCustomerName());
+            statement.setString(2, toJson(order));
+            statement.setBigDecimal(3, order.getTotalPriceGross());
+            statement.setString(4, order.getCurrencyCode());
+            statement.setObject(5, order.getId());
+            statement.setObject(6, order.getDeviceId());
+            statement.setLong(7, expectedVersion);
+            statement.setObject(8, createdSince);
+        }, (resultSet, rowNum) -> {
+            order.setCurrencyCode(resultSet.getString("currency_code"));
+            order.setCreatedAt(resultSet.getObject("created_at", OffsetDateTime.class));
+            order.setUpdatedAt(resultSet.getObject("updated_at", OffsetDateTime.class));
+            order.setVersion(resultSet.getLong("version"));
+            return order;
+        });
+        return updated.stream().findFirst();
+    }
+
+    public boolean deleteOwned(UUID id, UUID deviceId, long expectedVersion, OffsetDateTime createdSince) {
+        return jdbcTemplate.update(DELETE_OWNED_SQL, id, deviceId, expectedVersion, createdSince) > 0;
+    }
+
+    public Optional<OrderOwnership> findOwnership(UUID id, OffsetDateTime createdSince) {
+        return jdbcTemplate.query(OWNERSHIP_SQL,
+                        (resultSet, rowNum) -> new OrderOwnership(resultSet.getObject("device_id", UUID.class), resultSet.getLong("version")),
+                        id, createdSince)
+                .stream()
+                .findFirst();
+    }
+
+    public void streamCreatedBetween(OffsetDateTime from, OffsetDateTime to, Consumer<OrderExportRow> consumer) {
+        exportDatabase.jdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            statement.setObject(1, from);
+            statement.setObject(2, to);
+            return statement;
+        }, (ResultSet resultSet) -> consumer.accept(new OrderExportRow(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("device_id", UUID.class),
+                resultSet.getString("customer_name"),
+                resultSet.getString("items"),
+                resultSet.getBigDecimal("total_price_gross"),
+                resultSet.getString("currency_code"),
+                resultSet.getObject("created_at", OffsetDateTime.class),
+                resultSet.getObject("updated_at", OffsetDateTime.class)
+        )));
+    }
+
+    private String toJson(OrderEntity order) {
+        try {
+            return objectMapper.writeValueAsString(order.getItems());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to encode items of order " + order.getId(), ex);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package de.lunchrunner.backend.data.repository;
+
+import java.util.UUID;
+
+public record OrderOwnership(UUID deviceId, long version) {
+}
@@ -2,14 +2,26 @@ package de.lunchrunner.backend.data.repository;
 
 import de.lunchrunner.backend.data.entity.OrderEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
 
-    List<OrderEntity> findAllByOrderByCreatedAtAsc();
+    List<OrderEntity> findByCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(OffsetDateTime since);
 
-    Optional<OrderEntity> findByIdAndDeviceId(UUID id, UUID deviceId);
+    List<OrderEntity> findByIdInAndCreatedAtGreaterThanEqual(Collection<UUID> ids, OffsetDateTime since);
+
+    @Query(value = "SELECT * FROM orders ORDER BY created_at ASC, id ASC LIMIT :limit", nativeQuery = true)
+    List<OrderEntity> findFirstPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM orders WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at ASC, id ASC LIMIT :limit",
+            nativeQuery = true)
+    List<OrderEntity> findPageAfter(@Param("createdAt") OffsetDateTime createdAt,
+                                    @Param("id") UUID id,
+                                    @Param("limit") int limit);
 }
@@ -0,0 +1,94 @@
+package de.lunchrunner.backend.data.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.config.ExportDatabase;
+import de.lunchrunner.backend.data.entity.ProductEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+public class ProductJdbcRepository {
+
+    private static final int UPSERT_BATCH_SIZE = 100;
+    private static final int EXPORT_FETCH_SIZE = 250;
+    private static final String UPSERT_SQL = """
+            INSERT INTO products (id, product_name, product_description, product_price_gross, currency_code,
+                                  product_category, product_active, options_definition)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb))
+            ON CONFLICT (id) DO UPDATE SET
+                product_name = EXCLUDED.product_name,
+                product_description = EXCLUDED.product_description,
+                product_price_gross = EXCLUDED.product_price_gross,
+                currency_code = EXCLUDED.currency_code,
+                product_category = EXCLUDED.product_category,
+                product_active = EXCLUDED.product_active,
+                options_definition = EXCLUDED.options_definition,
+                version = products.version + 1
+            """;
+    private static final String EXPORT_SQL = """
+            SELECT id, product_name, product_description, product_price_gross, currency_code,
+                   product_category, product_active, options_definition::text AS options_definition
+            FROM products
+            ORDER BY product_name, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExportDatabase exportDatabase;
+    private final ObjectMapper objectMapper;
+
+    public ProductJdbcRepository(JdbcTemplate jdbcTemplate, ExportDatabase exportDatabase, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportDatabase = exportDatabase;
+        this.objectMapper = objectMapper;
+    }
+
+    public void upsertAll(List<ProductEntity> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, products, UPSERT_BATCH_SIZE, (statement, product) -> {
+            statement.setObject(1, product.getId());
+            statement.setString(2, product.getProductName());
+            statement.setString(3, product.getProductDescription());
+            statement.setBigDecimal(4, product.getProductPriceGross());
+            statement.setString(5, product.getCurrencyCode());
+            statement.setString(6, product.getProductCategory());
+            statement.setBoolean(7, product.isProductActive());
+            statement.setString(8, product.getOptionsDefinition().toString());
+        });
+    }
+
+    public void streamAll(Consumer<ProductEntity> consumer) {
+        exportDatabase.jdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            return statement;
+        }, (ResultSet resultSet) -> consumer.accept(toEntity(resultSet)));
+    }
+
+    private ProductEntity toEntity(ResultSet resultSet) throws SQLException {
+        ProductEntity entity = new ProductEntity();
+        entity.setId(resultSet.getObject("id", UUID.class));
+        entity.setProductName(resultSet.getString("product_name"));
+        entity.setProductDescription(resultSet.getString("product_description"));
+        entity.setProductPriceGross(resultSet.getBigDecimal("product_price_gross"));
+        entity.setCurrencyCode(resultSet.getString("currency_code"));
+        entity.setProductCategory(resultSet.getString("product_category"));
+        entity.setProductActive(resultSet.getBoolean("product_active"));
+        String options = resultSet.getString("options_definition");
+        try {
+            entity.setOptionsDefinition(objectMapper.readTree(options));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to parse options of product " + entity.getId(), ex);
+        }
+        return entity;
+    }
+}
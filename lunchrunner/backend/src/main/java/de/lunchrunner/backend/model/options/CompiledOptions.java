@@ -0,0 +1,96 @@
+package de.lunchrunner.backend.model.options;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class CompiledOptions {
+
+    private static final CompiledOptions EMPTY = new CompiledOptions(Map.of(), true);
+
+    private final Map<String, CompiledGroup> groups;
+    private final boolean fixedPointSupported;
+
+    private CompiledOptions(Map<String, CompiledGroup> groups, boolean fixedPointSupported) {
+        this.groups = groups;
+        this.fixedPointSupported = fixedPointSupported;
+    }
+
+    public static CompiledOptions empty() {
+        return EMPTY;
+    }
+
+    public static CompiledOptions compile(OptionsDefinition definition) {
+        if (definition == null || definition.getGroups().isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, CompiledGroup> groups = new HashMap<>();
+        boolean fixedPointSupported = true;
+        for (OptionGroupDefinition group : definition.getGroups()) {
+            if (group.getId() == null || groups.containsKey(group.getId())) {
+                continue;
+            }
+            CompiledGroup compiled = compileGroup(group);
+            fixedPointSupported &= compiled.fixedPointSupported();
+            groups.put(group.getId(), compiled);
+        }
+        return new CompiledOptions(Collections.unmodifiableMap(groups), fixedPointSupported);
+    }
+
+    private static CompiledGroup compileGroup(OptionGroupDefinition group) {
+        Map<String, CompiledValue> values = new HashMap<>();
+        boolean fixedPointSupported = true;
+        if (group.getValues() != null) {
+            for (OptionValueDefinition value : group.getValues()) {
+                if (value.getLabel() == null || values.containsKey(value.getLabel())) {
+                    continue;
+                }
+                BigDecimal priceDelta = value.getPriceDelta() == null ? BigDecimal.ZERO : value.getPriceDelta();
+                long priceDeltaCents = 0;
+                if (MinorUnits.fits(priceDelta)) {
+                    priceDeltaCents = MinorUnits.toMinorUnits(priceDelta);
+                } else {
+                    fixedPointSupported = false;
+                }
+                values.put(value.getLabel(), new CompiledValue(priceDelta, priceDeltaCents));
+            }
+        }
+        return new CompiledGroup(group.getId(), group.getType(), Collections.unmodifiableMap(values), fixedPointSupported);
+    }
+
+    public CompiledGroup group(String groupId) {
+        return groups.get(groupId);
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    public boolean fixedPointSupported() {
+        return fixedPointSupported;
+    }
+
+    public record CompiledGroup(String id,
+                                OptionGroupDefinition.GroupType type,
+                                Map<String, CompiledValue> values,
+                                boolean fixedPointSupported) {
+
+        public boolean contains(String label) {
+            return values.containsKey(label);
+        }
+
+        public BigDecimal priceDelta(String label) {
+            CompiledValue value = values.get(label);
+            return value == null ? BigDecimal.ZERO : value.priceDelta();
+        }
+
+        public long priceDeltaCents(String label) {
+            CompiledValue value = values.get(label);
+            return value == null ? 0 : value.priceDeltaCents();
+        }
+    }
+
+    public record CompiledValue(BigDecimal priceDelta, long priceDeltaCents) {
+    }
+}
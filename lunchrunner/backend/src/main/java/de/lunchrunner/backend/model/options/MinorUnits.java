@@ -0,0 +1,31 @@
+package de.lunchrunner.backend.model.options;
+
+import java.math.BigDecimal;
+
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    public static boolean fits(BigDecimal amount) {
+        if (amount == null) {
+            return false;
+        }
+        try {
+            toMinorUnits(amount);
+            return true;
+        } catch (ArithmeticException ex) {
+            return false;
+        }
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
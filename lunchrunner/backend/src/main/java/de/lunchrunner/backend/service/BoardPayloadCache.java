@@ -0,0 +1,81 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class BoardPayloadCache {
+
+    private final ProductService productService;
+    private final OrderService orderService;
+    private final ProductCatalog productCatalog;
+    private final OrderBoardVersion orderBoardVersion;
+    private final ObjectMapper objectMapper;
+    private final Timer productsQueryTimer;
+    private final Timer ordersQueryTimer;
+    private final AtomicReference<EncodedPayload> activeProducts = new AtomicReference<>();
+    private final AtomicReference<EncodedPayload> orders = new AtomicReference<>();
+    private final ReentrantLock activeProductsLock = new ReentrantLock();
+    private final ReentrantLock ordersLock = new ReentrantLock();
+
+    public BoardPayloadCache(ProductService productService,
+                             OrderService orderService,
+                             ProductCatalog productCatalog,
+                             OrderBoardVersion orderBoardVersion,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.productService = productService;
+        this.orderService = orderService;
+        this.productCatalog = productCatalog;
+        this.orderBoardVersion = orderBoardVersion;
+        this.objectMapper = objectMapper;
+        this.productsQueryTimer = meterRegistry.timer("lunchrunner.realtime.refresh.query", "payload", "products");
+        this.ordersQueryTimer = meterRegistry.timer("lunchrunner.realtime.refresh.query", "payload", "orders");
+    }
+
+    public EncodedPayload activeProducts() {
+        return resolve(activeProducts, activeProductsLock, productCatalog.current().version(), productsQueryTimer, productService::getActiveProducts);
+    }
+
+    public EncodedPayload orders() {
+        return resolve(orders, ordersLock, orderBoardVersion.current(), ordersQueryTimer, orderService::listOrders);
+    }
+
+    private EncodedPayload resolve(AtomicReference<EncodedPayload> reference,
+                                   ReentrantLock lock,
+                                   long version,
+                                   Timer queryTimer,
+                                   Supplier<Object> loader) {
+        EncodedPayload cached = reference.get();
+        if (cached != null && cached.version() >= version) {
+            return cached;
+        }
+        lock.lock();
+        try {
+            cached = reference.get();
+            if (cached != null && cached.version() >= version) {
+                return cached;
+            }
+            EncodedPayload encoded = encode(version, queryTimer.record(loader));
+            reference.set(encoded);
+            return encoded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private EncodedPayload encode(long version, Object value) {
+        try {
+            return EncodedPayload.of(version, objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to encode realtime payload", ex);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package de.lunchrunner.backend.service;
+
+import java.time.OffsetDateTime;
+
+public record BoardResetEvent(OffsetDateTime resetAt) {
+}
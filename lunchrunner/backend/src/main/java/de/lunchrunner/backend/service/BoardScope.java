@@ -0,0 +1,74 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.data.entity.BoardResetEntity;
+import de.lunchrunner.backend.data.repository.BoardResetRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+@Component
+public class BoardScope {
+
+    private final BoardResetRepository boardResetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId zone;
+    private volatile OffsetDateTime lastReset;
+
+    public BoardScope(BoardResetRepository boardResetRepository,
+                      ApplicationEventPublisher eventPublisher,
+                      ApplicationProperties properties) {
+        this.boardResetRepository = boardResetRepository;
+        this.eventPublisher = eventPublisher;
+        this.zone = ZoneId.of(properties.getBoardTimeZone());
+    }
+
+    @PostConstruct
+    public void loadLastReset() {
+        lastReset = boardResetRepository.findFirstByOrderByResetAtDesc()
+                .map(BoardResetEntity::getResetAt)
+                .orElse(null);
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public OffsetDateTime currentStart() {
+        OffsetDateTime startOfDay = LocalDate.now(zone).atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime reset = lastReset;
+        if (reset != null && reset.isAfter(startOfDay)) {
+            return reset;
+        }
+        return startOfDay;
+    }
+
+    public void observeReset(OffsetDateTime resetAt) {
+        OffsetDateTime current = lastReset;
+        if (current == null || resetAt.isAfter(current)) {
+            lastReset = resetAt;
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardReset(BoardResetEvent event) {
+        observeReset(event.resetAt());
+    }
+
+    @Transactional
+    public OffsetDateTime reset() {
+        BoardResetEntity saved = boardResetRepository.save(new BoardResetEntity());
+        eventPublisher.publishEvent(new BoardResetEvent(saved.getResetAt()));
+        return saved.getResetAt();
+    }
+}
@@ -0,0 +1,21 @@
+package de.lunchrunner.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BoardSequence {
+
+    public static final String HEADER_NAME = "X-Board-Sequence";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public long current() {
+        return sequence.get();
+    }
+
+    long next() {
+        return sequence.incrementAndGet();
+    }
+}
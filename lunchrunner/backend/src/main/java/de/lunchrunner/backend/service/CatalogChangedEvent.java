@@ -0,0 +1,8 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.web.dto.ProductResponse;
+
+import java.util.UUID;
+
+public record CatalogChangedEvent(UUID productId, ProductResponse product) {
+}
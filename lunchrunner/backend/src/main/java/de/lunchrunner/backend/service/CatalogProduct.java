@@ -0,0 +1,41 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.model.options.CompiledOptions;
+import de.lunchrunner.backend.model.options.MinorUnits;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record CatalogProduct(
+        UUID id,
+        Long version,
+        String productName,
+        BigDecimal productPriceGross,
+        long productPriceCents,
+        String currencyCode,
+        boolean productActive,
+        CompiledOptions options,
+        boolean fixedPointSupported
+) {
+
+    public static CatalogProduct of(UUID id,
+                                    Long version,
+                                    String productName,
+                                    BigDecimal productPriceGross,
+                                    String currencyCode,
+                                    boolean productActive,
+                                    CompiledOptions options) {
+        boolean priceFits = MinorUnits.fits(productPriceGross);
+        return new CatalogProduct(
+                id,
+                version,
+                productName,
+                productPriceGross,
+                priceFits ? MinorUnits.toMinorUnits(productPriceGross) : 0,
+                currencyCode,
+                productActive,
+                options,
+                priceFits && options.fixedPointSupported()
+        );
+    }
+}
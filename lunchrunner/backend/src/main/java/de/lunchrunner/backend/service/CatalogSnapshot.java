@@ -0,0 +1,24 @@
+package de.lunchrunner.backend.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record CatalogSnapshot(long version, Map<UUID, CatalogProduct> products) {
+
+    public CatalogSnapshot {
+        products = Map.copyOf(products);
+    }
+
+    public static CatalogSnapshot of(long version, Collection<CatalogProduct> products) {
+        return new CatalogSnapshot(version, products.stream()
+                .collect(Collectors.toMap(CatalogProduct::id, Function.identity())));
+    }
+
+    public Optional<CatalogProduct> find(UUID productId) {
+        return Optional.ofNullable(products.get(productId));
+    }
+}
@@ -0,0 +1,100 @@
+package de.lunchrunner.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CsvReader {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = -2;
+    private long line = 1;
+    private long recordLine = 1;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    long recordLine() {
+        return recordLine;
+    }
+
+    List<String> readRecord() throws IOException {
+        int next = read();
+        if (next == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (next == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (next == '"') {
+                    int peek = read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        next = peek;
+                        continue;
+                    }
+                } else {
+                    append(next);
+                }
+            } else if (next == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (next == ',') {
+                record.add(takeField());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (next == '\r' || next == '\n' || next == -1) {
+                if (next == '\r') {
+                    int peek = read();
+                    if (peek != '\n') {
+                        pending = peek;
+                    }
+                }
+                if (next != -1) {
+                    line++;
+                }
+                record.add(takeField());
+                return record;
+            } else {
+                append(next);
+            }
+            next = read();
+        }
+    }
+
+    private String takeField() {
+        String value = field.toString();
+        if (value.startsWith("'") && CsvWriter.isFormulaLike(value)) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    private void append(int character) {
+        if (character == '\n') {
+            line++;
+        }
+        field.append((char) character);
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int value = pending;
+            pending = -2;
+            return value;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,57 @@
+package de.lunchrunner.backend.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+final class CsvWriter {
+
+    private final Writer writer;
+
+    CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void writeRecord(List<String> values) throws IOException {
+        for (int index = 0; index < values.size(); index++) {
+            if (index > 0) {
+                writer.write(',');
+            }
+            writeField(values.get(index));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (isFormulaLike(value)) {
+            value = "'" + value;
+        }
+        boolean needsQuotes = false;
+        for (int index = 0; index < value.length() && !needsQuotes; index++) {
+            char character = value.charAt(index);
+            needsQuotes = character == ',' || character == '"' || character == '\r' || character == '\n';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    static boolean isFormulaLike(String value) {
+        int index = 0;
+        while (index < value.length() && value.charAt(index) == '\'') {
+            index++;
+        }
+        if (index == value.length()) {
+            return false;
+        }
+        char first = value.charAt(index);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
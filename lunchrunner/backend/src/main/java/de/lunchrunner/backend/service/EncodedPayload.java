@@ -0,0 +1,12 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.nio.charset.StandardCharsets;
+
+public record EncodedPayload(long version, byte[] json, RawValue raw) {
+
+    public static EncodedPayload of(long version, byte[] json) {
+        return new EncodedPayload(version, json, new RawValue(new String(json, StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,88 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.config.ExpiringCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+    public static final String REPLAYED_HEADER_NAME = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ObjectMapper objectMapper;
+    private final ExpiringCache<String, Entry> entries;
+
+    @Autowired
+    public IdempotencyStore(ApplicationProperties properties, ObjectMapper objectMapper) {
+        this(properties.getIdempotencyKeyTtl(), properties.getIdempotencyMaxEntries(), Clock.systemUTC(), objectMapper);
+    }
+
+    IdempotencyStore(Duration ttl, int maxEntries, Clock clock, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.entries = new ExpiringCache<>(entry -> ttl, maxEntries, clock);
+    }
+
+    public <T> Outcome<T> execute(String idempotencyKey, String scope, Object request, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return new Outcome<>(action.get(), false);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER_NAME + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String key = scope + "|" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        ExpiringCache.Lookup<Entry> lookup = entries.get(key, ignored -> new Entry(fingerprint, action.get()));
+        ensureSameRequest(lookup.value().fingerprint(), fingerprint);
+        return new Outcome<>(cast(lookup.value().response()), !lookup.loaded());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void ensureSameRequest(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER_NAME + " was already used for a different request");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to fingerprint request", ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object response) {
+        return (T) response;
+    }
+
+    public record Outcome<T>(T response, boolean replayed) {
+    }
+
+    private record Entry(String fingerprint, Object response) {
+    }
+}
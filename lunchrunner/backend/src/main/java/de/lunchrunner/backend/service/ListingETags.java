@@ -0,0 +1,40 @@
+package de.lunchrunner.backend.service;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class ListingETags {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ProductCatalog productCatalog;
+    private final OrderBoardVersion orderBoardVersion;
+
+    public ListingETags(ProductCatalog productCatalog, OrderBoardVersion orderBoardVersion) {
+        this.productCatalog = productCatalog;
+        this.orderBoardVersion = orderBoardVersion;
+    }
+
+    public String activeProducts() {
+        return activeProducts(productCatalog.current().version());
+    }
+
+    public String activeProducts(long catalogVersion) {
+        return tag("products", catalogVersion);
+    }
+
+    public String allProducts() {
+        return tag("admin-products", productCatalog.current().version());
+    }
+
+    public String orders() {
+        return orders(orderBoardVersion.current());
+    }
+
+    public String orders(long boardVersion) {
+        return tag("orders", boardVersion);
+    }
+
+    private String tag(String scope, long version) {
+        return "\"" + scope + "-" + epoch + "-" + version + "\"";
+    }
+}
@@ -1,49 +1,82 @@
 package de.lunchrunner.backend.service;
 
+import de.lunchrunner.backend.model.options.CompiledOptions;
 import de.lunchrunner.backend.model.options.OptionGroupDefinition;
 import de.lunchrunner.backend.model.options.OptionValueDefinition;
 import de.lunchrunner.backend.model.options.OptionsDefinition;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 @Service
 public class OptionsValidationService {
 
+    public void validateDefinition(OptionsDefinition optionsDefinition) {
+        if (optionsDefinition == null) {
+            throw new IllegalArgumentException("Options definition is required");
+        }
+        Set<String> groupIds = new HashSet<>();
+        for (OptionGroupDefinition group : optionsDefinition.getGroups()) {
+            if (group == null || group.getId() == null || group.getId().isBlank()) {
+                throw new IllegalArgumentException("Option group id must be a non-empty string");
+            }
+            if (!groupIds.add(group.getId())) {
+                throw new IllegalArgumentException("Duplicate option group: " + group.getId());
+            }
+            if (group.getLabel() == null || group.getLabel().isBlank()) {
+                throw new IllegalArgumentException("Option group " + group.getId() + " needs a label");
+            }
+            if (group.getType() == null) {
+                throw new IllegalArgumentException("Option group " + group.getId() + " needs a type");
+            }
+            if (group.getValues() == null || group.getValues().isEmpty()) {
+                throw new IllegalArgumentException("Option group " + group.getId() + " needs at least one value");
+            }
+            Set<String> labels = new HashSet<>();
+            for (OptionValueDefinition value : group.getValues()) {
+                if (value == null || value.getLabel() == null || value.getLabel().isBlank()) {
+                    throw new IllegalArgumentException("Option values in group " + group.getId() + " must have a label");
+                }
+                if (!labels.add(value.getLabel())) {
+                    throw new IllegalArgumentException("Duplicate option value in group " + group.getId() + ": " + value.getLabel());
+                }
+                if (value.getPriceDelta() == null) {
+                    throw new IllegalArgumentException("Option value " + value.getLabel() + " needs a price delta");
+                }
+            }
+        }
+    }
+
     public void validateSelection(OptionsDefinition optionsDefinition, Map<String, Object> selectedOptions) {
-        if (optionsDefinition == null || optionsDefinition.getGroups() == null) {
+        if (optionsDefinition == null) {
             return;
         }
+        validateSelection(CompiledOptions.compile(optionsDefinition), selectedOptions);
+    }
+
+    public void validateSelection(CompiledOptions options, Map<String, Object> selectedOptions) {
         if (selectedOptions == null || selectedOptions.isEmpty()) {
             return;
         }
 
-        final Set<String> availableGroupIds = optionsDefinition.getGroups().stream()
-                .map(OptionGroupDefinition::getId)
-                .filter(Objects::nonNull)
-                .collect(java.util.stream.Collectors.toSet());
-
-        for (String groupId : selectedOptions.keySet()) {
-            if (!availableGroupIds.contains(groupId)) {
-                throw new IllegalArgumentException("Unknown option group: " + groupId);
+        for (Map.Entry<String, Object> selection : selectedOptions.entrySet()) {
+            CompiledOptions.CompiledGroup group = options.group(selection.getKey());
+            if (group == null) {
+                throw new IllegalArgumentException("Unknown option group: " + selection.getKey());
             }
-        }
-
-        for (OptionGroupDefinition group : optionsDefinition.getGroups()) {
-            Object value = selectedOptions.get(group.getId());
+            Object value = selection.getValue();
             if (value == null) {
                 continue;
             }
-            if (group.getType() == OptionGroupDefinition.GroupType.single) {
+            if (group.type() == OptionGroupDefinition.GroupType.single) {
                 if (!(value instanceof String valueString) || valueString.isBlank()) {
                     throw new IllegalArgumentException("Single-select option must be a non-empty string");
                 }
                 ensureValueExists(group, valueString);
-            } else if (group.getType() == OptionGroupDefinition.GroupType.multi) {
+            } else if (group.type() == OptionGroupDefinition.GroupType.multi) {
                 if (!(value instanceof Collection<?> valueCollection)) {
                     throw new IllegalArgumentException("Multi-select option must be an array");
                 }
@@ -54,14 +87,13 @@ public class OptionsValidationService {
                     ensureValueExists(group, entryString);
                 }
             } else {
-                throw new IllegalArgumentException("Unsupported option group type: " + group.getType());
+                throw new IllegalArgumentException("Unsupported option group type: " + group.type());
             }
         }
     }
 
-    private void ensureValueExists(OptionGroupDefinition group, String value) {
-        final List<OptionValueDefinition> definitions = group.getValues();
-        if (definitions == null || definitions.stream().noneMatch(option -> option.getLabel().equals(value))) {
+    private void ensureValueExists(CompiledOptions.CompiledGroup group, String value) {
+        if (!group.contains(value)) {
             throw new IllegalArgumentException("Invalid option value: " + value);
         }
     }
@@ -0,0 +1,49 @@
+package de.lunchrunner.backend.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OrderBoardVersion {
+
+    private final BoardScope boardScope;
+    private final AtomicLong version = new AtomicLong(1);
+    private volatile OffsetDateTime boardStart;
+
+    public OrderBoardVersion(BoardScope boardScope) {
+        this.boardScope = boardScope;
+    }
+
+    public long current() {
+        OffsetDateTime start = boardScope.currentStart();
+        if (!start.equals(boardStart)) {
+            synchronized (this) {
+                if (!start.equals(boardStart)) {
+                    boardStart = start;
+                    version.incrementAndGet();
+                }
+            }
+        }
+        return version.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrdersCreated(OrdersCreatedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @EventListener
+    public void onResync(RealtimeResyncEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,14 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.web.dto.OrderResponse;
+
+import java.util.UUID;
+
+public record OrderChangedEvent(Type type, UUID orderId, OrderResponse order) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
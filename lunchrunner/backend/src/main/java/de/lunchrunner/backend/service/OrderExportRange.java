@@ -0,0 +1,7 @@
+package de.lunchrunner.backend.service;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+public record OrderExportRange(LocalDate firstDay, LocalDate lastDay, OffsetDateTime start, OffsetDateTime end) {
+}
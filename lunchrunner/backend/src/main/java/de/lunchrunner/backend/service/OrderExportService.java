@@ -0,0 +1,119 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.config.ExportDatabase;
+import de.lunchrunner.backend.data.repository.OrderExportRow;
+import de.lunchrunner.backend.data.repository.OrderJdbcRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@Service
+public class OrderExportService {
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "id",
+            "createdAt",
+            "updatedAt",
+            "deviceId",
+            "customerName",
+            "totalPriceGross",
+            "currencyCode",
+            "items"
+    );
+
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final BoardScope boardScope;
+    private final OrderPartitionMaintenance orderPartitionMaintenance;
+    private final ExportDatabase exportDatabase;
+    private final TransferWriter<OrderExportRow> exportWriter;
+
+    public OrderExportService(OrderJdbcRepository orderJdbcRepository,
+                              BoardScope boardScope,
+                              OrderPartitionMaintenance orderPartitionMaintenance,
+                              ExportDatabase exportDatabase,
+                              ObjectMapper objectMapper) {
+        this.orderJdbcRepository = orderJdbcRepository;
+        this.boardScope = boardScope;
+        this.orderPartitionMaintenance = orderPartitionMaintenance;
+        this.exportDatabase = exportDatabase;
+        this.exportWriter = new TransferWriter<>(objectMapper, CSV_COLUMNS, this::writeJson, this::toCsvRecord);
+    }
+
+    public OrderExportRange resolveRange(String from, String to) {
+        LocalDate firstDay = parseDate(from);
+        LocalDate lastDay = to == null || to.isBlank() ? firstDay : parseDate(to);
+        if (lastDay.isBefore(firstDay)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "to must not be before from");
+        }
+        OffsetDateTime start = firstDay.atStartOfDay(boardScope.zone()).toOffsetDateTime();
+        orderPartitionMaintenance.retainedSince()
+                .filter(start::isBefore)
+                .ifPresent(retainedSince -> {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Orders created before " + retainedSince.toLocalDate() + " have been archived and cannot be exported");
+                });
+        return new OrderExportRange(
+                firstDay,
+                lastDay,
+                start,
+                lastDay.plusDays(1).atStartOfDay(boardScope.zone()).toOffsetDateTime()
+        );
+    }
+
+    public void exportOrders(OutputStream output, TransferFormat format, OrderExportRange range) throws IOException {
+        exportWriter.write(output, format, rows -> exportDatabase.readOnly(
+                () -> orderJdbcRepository.streamCreatedBetween(range.start(), range.end(), rows)));
+    }
+
+    private void writeJson(JsonGenerator generator, OrderExportRow order) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", order.id().toString());
+        generator.writeStringField("createdAt", format(order.createdAt()));
+        generator.writeStringField("updatedAt", format(order.updatedAt()));
+        generator.writeStringField("deviceId", order.deviceId().toString());
+        generator.writeStringField("customerName", order.customerName());
+        generator.writeNumberField("totalPriceGross", order.totalPriceGross());
+        generator.writeStringField("currencyCode", order.currencyCode());
+        generator.writeFieldName("items");
+        generator.writeRawValue(order.itemsJson());
+        generator.writeEndObject();
+    }
+
+    private List<String> toCsvRecord(OrderExportRow order) {
+        return List.of(
+                order.id().toString(),
+                format(order.createdAt()),
+                format(order.updatedAt()),
+                order.deviceId().toString(),
+                order.customerName(),
+                order.totalPriceGross().toPlainString(),
+                order.currencyCode(),
+                order.itemsJson()
+        );
+    }
+
+    private String format(OffsetDateTime timestamp) {
+        return timestamp.withOffsetSameInstant(ZoneOffset.UTC).toString();
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from is required");
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid date supplied: " + value);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package de.lunchrunner.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+@Component
+public class OrderMutationMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public OrderMutationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } catch (ResponseStatusException ex) {
+            outcome = Integer.toString(ex.getStatusCode().value());
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("lunchrunner.orders.mutation", "operation", operation, "outcome", outcome));
+        }
+    }
+
+    public void record(String operation, Runnable action) {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class OrderPartitionMaintenance {
+
+    static final String DEFAULT_PARTITION = "orders_default";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderPartitionMaintenance.class);
+    private static final Pattern PARTITION_NAME = Pattern.compile("orders_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final long ADVISORY_LOCK_KEY = 0x6c756e6368L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties properties;
+
+    public OrderPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     ApplicationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "0 15 3 * * *", zone = "UTC")
+    public void onSchedule() {
+        maintain();
+    }
+
+    public Optional<OffsetDateTime> retainedSince() {
+        int retentionMonths = properties.getOrderRetentionMonths();
+        if (retentionMonths <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths).atDay(1)
+                .atStartOfDay().atOffset(ZoneOffset.UTC));
+    }
+
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", ADVISORY_LOCK_KEY);
+                maintainLocked(YearMonth.now(ZoneOffset.UTC));
+            });
+        } catch (RuntimeException ex) {
+            LOGGER.error("Order partition maintenance failed; new orders fall back to {}", DEFAULT_PARTITION, ex);
+        }
+    }
+
+    private void maintainLocked(YearMonth currentMonth) {
+        for (int offset = 0; offset <= properties.getOrderPartitionsAhead(); offset++) {
+            createPartition(currentMonth.plusMonths(offset));
+        }
+        int retentionMonths = properties.getOrderRetentionMonths();
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestRetained = currentMonth.minusMonths(retentionMonths);
+        for (String partition : attachedPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.isBefore(oldestRetained)) {
+                expirePartition(partition, month);
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_tables WHERE schemaname = current_schema() AND tablename = ?)",
+                Boolean.class, partition)) {
+            return;
+        }
+        String from = month.atDay(1) + " 00:00:00+00";
+        String to = month.plusMonths(1).atDay(1) + " 00:00:00+00";
+        jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE orders INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE created_at >= ?::timestamptz AND created_at < ?::timestamptz RETURNING *) "
+                + "INSERT INTO " + partition + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE orders ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        if (moved > 0) {
+            LOGGER.info("Moved {} orders from {} into new partition {}", moved, DEFAULT_PARTITION, partition);
+        }
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'orders'::regclass ORDER BY c.relname",
+                String.class);
+    }
+
+    private void expirePartition(String partition, YearMonth month) {
+        if (properties.getOrderPartitionExpiry() == ApplicationProperties.PartitionExpiry.DROP) {
+            LOGGER.info("Dropping expired order partition {}", partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return;
+        }
+        String archive = "orders_archive_" + month.format(SUFFIX_FORMAT);
+        LOGGER.info("Detaching expired order partition {} as {}", partition, archive);
+        jdbcTemplate.execute("ALTER TABLE orders DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " RENAME TO " + archive);
+    }
+
+    private String partitionName(YearMonth month) {
+        return "orders_" + month.format(SUFFIX_FORMAT);
+    }
+}
@@ -1,49 +1,116 @@
 package de.lunchrunner.backend.service;
 
 import de.lunchrunner.backend.data.entity.OrderEntity;
-import de.lunchrunner.backend.data.entity.ProductEntity;
+import de.lunchrunner.backend.data.repository.OrderJdbcRepository;
+import de.lunchrunner.backend.data.repository.OrderOwnership;
 import de.lunchrunner.backend.data.repository.OrderRepository;
-import de.lunchrunner.backend.data.repository.ProductRepository;
 import de.lunchrunner.backend.model.order.OrderItemSnapshot;
+import de.lunchrunner.backend.web.dto.OrderBatchResponse;
+import de.lunchrunner.backend.web.dto.OrderBatchResult;
+import de.lunchrunner.backend.web.dto.OrderPageResponse;
 import de.lunchrunner.backend.web.dto.OrderRequest;
 import de.lunchrunner.backend.web.dto.OrderResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class OrderService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
+
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final ProductCatalog productCatalog;
     private final PriceCalculationService priceCalculationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardScope boardScope;
+    private final Validator validator;
 
     public OrderService(OrderRepository orderRepository,
-                        ProductRepository productRepository,
-                        PriceCalculationService priceCalculationService) {
+                        OrderJdbcRepository orderJdbcRepository,
+                        ProductCatalog productCatalog,
+                        PriceCalculationService priceCalculationService,
+                        ApplicationEventPublisher eventPublisher,
+                        BoardScope boardScope,
+                        Validator validator) {
         this.orderRepository = orderRepository;
-        this.productRepository = productRepository;
+        this.orderJdbcRepository = orderJdbcRepository;
+        this.productCatalog = productCatalog;
         this.priceCalculationService = priceCalculationService;
+        this.eventPublisher = eventPublisher;
+        this.boardScope = boardScope;
+        this.validator = validator;
     }
 
     @Transactional(readOnly = true)
     public List<OrderResponse> listOrders() {
-        return orderRepository.findAllByOrderByCreatedAtAsc().stream()
+        return orderRepository.findByCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(boardScope.currentStart()).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findOrders(List<UUID> ids) {
+        return orderRepository.findByIdInAndCreatedAtGreaterThanEqual(ids, boardScope.currentStart()).stream()
+                .sorted(Comparator.comparing(OrderEntity::getCreatedAt).thenComparing(OrderEntity::getId))
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPageResponse listHistory(String after, int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        List<OrderEntity> page;
+        if (after == null || after.isBlank()) {
+            page = orderRepository.findFirstPage(limit);
+        } else {
+            int separator = after.lastIndexOf(',');
+            if (separator < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor supplied");
+            }
+            OffsetDateTime createdAt;
+            try {
+                createdAt = OffsetDateTime.parse(after.substring(0, separator));
+            } catch (DateTimeParseException ex) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor supplied");
+            }
+            page = orderRepository.findPageAfter(createdAt, parseUuid(after.substring(separator + 1)), limit);
+        }
+        List<OrderResponse> items = page.stream()
                 .map(this::toResponse)
                 .toList();
+        String nextCursor = null;
+        if (page.size() == limit) {
+            OrderEntity last = page.get(page.size() - 1);
+            nextCursor = last.getCreatedAt().withOffsetSameInstant(ZoneOffset.UTC) + "," + last.getId();
+        }
+        return new OrderPageResponse(items, nextCursor);
     }
 
     public OrderResponse createOrder(OrderRequest request, UUID deviceId) {
-        List<ProductEntity> products = productRepository.findAll();
+        CatalogSnapshot catalog = productCatalog.current();
         String currency = request.getCurrencyCode() == null || request.getCurrencyCode().isBlank()
                 ? "EUR"
                 : request.getCurrencyCode();
-        OrderCalculationResult calculationResult = priceCalculationService.calculate(products, request.getItems(), currency);
+        OrderCalculationResult calculationResult = priceCalculationService.calculate(catalog, request.getItems(), currency);
 
         OrderEntity entity = new OrderEntity();
         entity.setDeviceId(deviceId);
@@ -53,38 +120,122 @@ public class OrderService {
         entity.setCurrencyCode(calculationResult.currencyCode());
 
         OrderEntity saved = orderRepository.save(entity);
-        return toResponse(saved);
+        OrderResponse response = toResponse(saved);
+        eventPublisher.publishEvent(new OrderChangedEvent(OrderChangedEvent.Type.CREATED, saved.getId(), response));
+        return response;
     }
 
-    public OrderResponse updateOrder(String id, OrderRequest request, UUID deviceId) {
-        UUID uuid = parseUuid(id);
-        OrderEntity entity = orderRepository.findById(uuid)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Order not found"));
-        if (!entity.getDeviceId().equals(deviceId)) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only modify your own orders");
+    public OrderBatchResponse createOrders(List<OrderRequest> requests, UUID deviceId) {
+        CatalogSnapshot catalog = productCatalog.current();
+        OffsetDateTime now = OffsetDateTime.now();
+        List<OrderBatchResult> results = new ArrayList<>(requests.size());
+        List<OrderEntity> entities = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            OrderRequest request = requests.get(index);
+            if (request == null) {
+                results.add(OrderBatchResult.failed(index, HttpStatus.BAD_REQUEST.value(), "Order must not be null"));
+                continue;
+            }
+            Set<ConstraintViolation<OrderRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                results.add(OrderBatchResult.failed(index, HttpStatus.BAD_REQUEST.value(), message));
+                continue;
+            }
+            String currency = request.getCurrencyCode() == null || request.getCurrencyCode().isBlank()
+                    ? "EUR"
+                    : request.getCurrencyCode();
+            OrderCalculationResult calculationResult;
+            try {
+                calculationResult = priceCalculationService.calculate(catalog, request.getItems(), currency);
+            } catch (ResponseStatusException ex) {
+                results.add(OrderBatchResult.failed(index, ex.getStatusCode().value(), ex.getReason()));
+                continue;
+            } catch (IllegalArgumentException ex) {
+                results.add(OrderBatchResult.failed(index, HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+                continue;
+            }
+
+            OrderEntity entity = new OrderEntity();
+            entity.setId(UUID.randomUUID());
+            entity.setDeviceId(deviceId);
+            entity.setCustomerName(request.getCustomerName());
+            entity.setItems(calculationResult.items());
+            entity.setTotalPriceGross(calculationResult.totalPriceGross());
+            entity.setCurrencyCode(calculationResult.currencyCode());
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+            entity.setVersion(0L);
+            entities.add(entity);
+            indexes.add(index);
+            results.add(null);
+        }
+
+        orderJdbcRepository.insertAll(entities);
+        List<OrderResponse> created = new ArrayList<>(entities.size());
+        for (int position = 0; position < entities.size(); position++) {
+            OrderResponse response = toResponse(entities.get(position));
+            created.add(response);
+            results.set(indexes.get(position), OrderBatchResult.created(indexes.get(position), response));
         }
-        List<ProductEntity> products = productRepository.findAll();
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new OrdersCreatedEvent(created));
+        }
+        return new OrderBatchResponse(created.size(), requests.size() - created.size(), results);
+    }
+
+    public OrderResponse updateOrder(String id, OrderRequest request, UUID deviceId, long expectedVersion) {
+        UUID uuid = parseUuid(id);
+        OffsetDateTime boardStart = boardScope.currentStart();
+        checkWritable(uuid, deviceId, expectedVersion, boardStart);
+        CatalogSnapshot catalog = productCatalog.current();
         String currency = request.getCurrencyCode() == null || request.getCurrencyCode().isBlank()
-                ? entity.getCurrencyCode()
+                ? null
                 : request.getCurrencyCode();
-        OrderCalculationResult calculationResult = priceCalculationService.calculate(products, request.getItems(), currency);
+        OrderCalculationResult calculationResult = priceCalculationService.calculate(catalog, request.getItems(), currency);
 
+        OrderEntity entity = new OrderEntity();
+        entity.setId(uuid);
+        entity.setDeviceId(deviceId);
         entity.setCustomerName(request.getCustomerName());
         entity.setItems(calculationResult.items());
         entity.setTotalPriceGross(calculationResult.totalPriceGross());
         entity.setCurrencyCode(calculationResult.currencyCode());
 
-        return toResponse(orderRepository.save(entity));
+        OrderEntity updated = orderJdbcRepository.updateOwned(entity, expectedVersion, boardStart)
+                .orElseThrow(() -> rejectWrite(uuid, deviceId, expectedVersion, boardStart));
+        OrderResponse response = toResponse(updated);
+        eventPublisher.publishEvent(new OrderChangedEvent(OrderChangedEvent.Type.UPDATED, uuid, response));
+        return response;
     }
 
-    public void deleteOrder(String id, UUID deviceId) {
+    public void deleteOrder(String id, UUID deviceId, long expectedVersion) {
         UUID uuid = parseUuid(id);
-        OrderEntity entity = orderRepository.findById(uuid)
+        OffsetDateTime boardStart = boardScope.currentStart();
+        if (!orderJdbcRepository.deleteOwned(uuid, deviceId, expectedVersion, boardStart)) {
+            throw rejectWrite(uuid, deviceId, expectedVersion, boardStart);
+        }
+        eventPublisher.publishEvent(new OrderChangedEvent(OrderChangedEvent.Type.DELETED, uuid, null));
+    }
+
+    private void checkWritable(UUID id, UUID deviceId, long expectedVersion, OffsetDateTime boardStart) {
+        OrderOwnership ownership = orderJdbcRepository.findOwnership(id, boardStart)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Order not found"));
-        if (!entity.getDeviceId().equals(deviceId)) {
+        if (!ownership.deviceId().equals(deviceId)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only modify your own orders");
         }
-        orderRepository.delete(entity);
+        if (ownership.version() != expectedVersion) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Order was modified by another request");
+        }
+    }
+
+    private ResponseStatusException rejectWrite(UUID id, UUID deviceId, long expectedVersion, OffsetDateTime boardStart) {
+        checkWritable(id, deviceId, expectedVersion, boardStart);
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Order was modified by another request");
     }
 
     private UUID parseUuid(String id) {
@@ -105,7 +256,8 @@ public class OrderService {
                 entity.getTotalPriceGross(),
                 entity.getCurrencyCode(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 }
@@ -0,0 +1,8 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.web.dto.OrderResponse;
+
+import java.util.List;
+
+public record OrdersCreatedEvent(List<OrderResponse> orders) {
+}
@@ -0,0 +1,120 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.data.entity.OrderEntity;
+import de.lunchrunner.backend.data.repository.OrderRepository;
+import de.lunchrunner.backend.web.dto.OrderResponse;
+import de.lunchrunner.backend.web.dto.PickupLineResponse;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class PickupList {
+
+    private final OrderRepository orderRepository;
+    private final BoardScope boardScope;
+    private final PickupTally tally;
+    private final ReentrantLock lock = new ReentrantLock();
+    private OffsetDateTime boardStart;
+
+    public PickupList(OrderRepository orderRepository, BoardScope boardScope, ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.boardScope = boardScope;
+        this.tally = new PickupTally(objectMapper);
+    }
+
+    public List<PickupLineResponse> current() {
+        lock.lock();
+        try {
+            ensureCurrentBoard();
+            return tally.lines();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<PickupLineResponse> drainChanges() {
+        lock.lock();
+        try {
+            return tally.drainChanges();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        lock.lock();
+        try {
+            if (boardStart == null) {
+                return;
+            }
+            ensureCurrentBoard();
+            if (event.type() == OrderChangedEvent.Type.DELETED) {
+                tally.withdraw(event.orderId());
+                return;
+            }
+            OrderResponse order = event.order();
+            if (order.createdAt() != null && order.createdAt().isBefore(boardStart)) {
+                return;
+            }
+            tally.apply(event.orderId(), order.updatedAt(), order.items());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrdersCreated(OrdersCreatedEvent event) {
+        lock.lock();
+        try {
+            if (boardStart == null) {
+                return;
+            }
+            ensureCurrentBoard();
+            for (OrderResponse order : event.orders()) {
+                if (order.createdAt() == null || !order.createdAt().isBefore(boardStart)) {
+                    tally.apply(UUID.fromString(order.id()), order.updatedAt(), order.items());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onResync(RealtimeResyncEvent event) {
+        lock.lock();
+        try {
+            if (boardStart != null) {
+                boardStart = null;
+                ensureCurrentBoard();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureCurrentBoard() {
+        OffsetDateTime start = boardScope.currentStart();
+        if (start.equals(boardStart)) {
+            return;
+        }
+        tally.clear();
+        for (OrderEntity order : orderRepository.findByCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(start)) {
+            tally.apply(order.getId(), order.getUpdatedAt(), order.getItems());
+        }
+        tally.drainChanges();
+        boardStart = start;
+    }
+}
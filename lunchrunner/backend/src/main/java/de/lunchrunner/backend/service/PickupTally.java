@@ -0,0 +1,190 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.model.order.OrderItemSnapshot;
+import de.lunchrunner.backend.web.dto.PickupLineResponse;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+class PickupTally {
+
+    private static final Comparator<Line> LINE_ORDER = Comparator
+            .comparing((Line line) -> line.productName == null ? "" : line.productName)
+            .thenComparing(line -> line.key);
+
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, Contribution> contributions = new HashMap<>();
+    private final Map<String, Line> lines = new HashMap<>();
+    private final Map<String, Line> changedLines = new LinkedHashMap<>();
+
+    PickupTally(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void apply(UUID orderId, OffsetDateTime updatedAt, List<OrderItemSnapshot> items) {
+        Contribution previous = contributions.get(orderId);
+        if (previous != null && previous.updatedAt() != null && updatedAt != null && updatedAt.isBefore(previous.updatedAt())) {
+            return;
+        }
+        withdraw(orderId);
+        List<Share> shares = new ArrayList<>(items.size());
+        for (OrderItemSnapshot item : items) {
+            Map<String, Object> options = canonicalOptions(item.getSelectedOptions());
+            String key = item.getProductId() + "|" + writeCanonical(options);
+            Line line = lines.get(key);
+            if (line == null) {
+                line = new Line(key, item.getProductId(), options, item.getCurrencyCode());
+                lines.put(key, line);
+            }
+            line.productName = item.getProductNameSnapshot();
+            Share share = new Share(key, item.getQuantity(), item.getItemPriceGrossSnapshot());
+            line.add(share.quantity(), share.total());
+            changedLines.put(key, line);
+            shares.add(share);
+        }
+        contributions.put(orderId, new Contribution(updatedAt, shares));
+    }
+
+    void withdraw(UUID orderId) {
+        Contribution previous = contributions.remove(orderId);
+        if (previous == null) {
+            return;
+        }
+        for (Share share : previous.shares()) {
+            Line line = lines.get(share.key());
+            if (line == null) {
+                continue;
+            }
+            line.add(-share.quantity(), share.total().negate());
+            if (line.quantity <= 0) {
+                lines.remove(share.key());
+            }
+            changedLines.put(share.key(), line);
+        }
+    }
+
+    void clear() {
+        contributions.clear();
+        lines.clear();
+        changedLines.clear();
+    }
+
+    List<PickupLineResponse> lines() {
+        return lines.values().stream()
+                .sorted(LINE_ORDER)
+                .map(Line::toResponse)
+                .toList();
+    }
+
+    List<PickupLineResponse> drainChanges() {
+        List<PickupLineResponse> changes = changedLines.values().stream()
+                .map(Line::toResponse)
+                .toList();
+        changedLines.clear();
+        return changes;
+    }
+
+    private Map<String, Object> canonicalOptions(Map<String, Object> selectedOptions) {
+        Map<String, Object> canonical = new TreeMap<>();
+        if (selectedOptions == null) {
+            return canonical;
+        }
+        for (Map.Entry<String, Object> entry : selectedOptions.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Iterable<?> iterable) {
+                List<String> values = new ArrayList<>();
+                for (Object element : iterable) {
+                    if (element != null) {
+                        values.add(String.valueOf(element));
+                    }
+                }
+                if (!values.isEmpty()) {
+                    values.sort(null);
+                    canonical.put(entry.getKey(), values);
+                }
+            } else {
+                canonical.put(entry.getKey(), String.valueOf(value));
+            }
+        }
+        return canonical;
+    }
+
+    private String writeCanonical(Map<String, Object> options) {
+        try {
+            return objectMapper.writeValueAsString(options);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to canonicalize selected options", ex);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record Share(String key, int quantity, BigDecimal total) {
+    }
+
+    private record Contribution(OffsetDateTime updatedAt, List<Share> shares) {
+    }
+
+    private static final class Line {
+
+        private final String key;
+        private final String productId;
+        private final String optionsHash;
+        private final Map<String, Object> selectedOptions;
+        private final String currencyCode;
+        private String productName;
+        private long quantity;
+        private BigDecimal totalPriceGross = BigDecimal.ZERO;
+
+        private Line(String key, String productId, Map<String, Object> selectedOptions, String currencyCode) {
+            this.key = key;
+            this.productId = productId;
+            this.optionsHash = hash(key);
+            this.selectedOptions = selectedOptions;
+            this.currencyCode = currencyCode;
+        }
+
+        private void add(long quantityDelta, BigDecimal totalDelta) {
+            quantity += quantityDelta;
+            totalPriceGross = totalPriceGross.add(totalDelta);
+        }
+
+        private PickupLineResponse toResponse() {
+            long visibleQuantity = Math.max(quantity, 0);
+            return new PickupLineResponse(
+                    productId,
+                    optionsHash,
+                    productName,
+                    selectedOptions,
+                    visibleQuantity,
+                    visibleQuantity == 0 ? BigDecimal.ZERO.setScale(2) : totalPriceGross,
+                    currencyCode
+            );
+        }
+    }
+}
@@ -1,76 +1,65 @@
 package de.lunchrunner.backend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import de.lunchrunner.backend.data.entity.ProductEntity;
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.model.options.CompiledOptions;
+import de.lunchrunner.backend.model.options.MinorUnits;
 import de.lunchrunner.backend.model.options.OptionGroupDefinition;
-import de.lunchrunner.backend.model.options.OptionValueDefinition;
-import de.lunchrunner.backend.model.options.OptionsDefinition;
 import de.lunchrunner.backend.model.order.OrderItemSnapshot;
 import de.lunchrunner.backend.web.dto.OrderItemRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class PriceCalculationService {
 
     private final OptionsValidationService optionsValidationService;
-    private final ObjectMapper objectMapper;
+    private final ApplicationProperties properties;
+    private final Timer calculateTimer;
 
-    public PriceCalculationService(OptionsValidationService optionsValidationService, ObjectMapper objectMapper) {
+    public PriceCalculationService(OptionsValidationService optionsValidationService,
+                                   ApplicationProperties properties,
+                                   MeterRegistry meterRegistry) {
         this.optionsValidationService = optionsValidationService;
-        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.calculateTimer = Timer.builder("lunchrunner.pricing.calculate")
+                .tag("mode", properties.getPricingMode().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
     }
 
-    public OrderCalculationResult calculate(List<ProductEntity> products, List<OrderItemRequest> items, String currencyCode) {
+    public OrderCalculationResult calculate(CatalogSnapshot catalog, List<OrderItemRequest> items, String currencyCode) {
+        Timer.Sample sample = Timer.start();
+        try {
+            if (properties.getPricingMode() == ApplicationProperties.PricingMode.FIXED_POINT) {
+                return calculateFixedPoint(catalog, items, currencyCode);
+            }
+            return calculateDecimal(catalog, items, currencyCode);
+        } finally {
+            sample.stop(calculateTimer);
+        }
+    }
+
+    private OrderCalculationResult calculateDecimal(CatalogSnapshot catalog, List<OrderItemRequest> items, String currencyCode) {
         BigDecimal total = BigDecimal.ZERO;
-        final List<OrderItemSnapshot> snapshots = new java.util.ArrayList<>();
+        final List<OrderItemSnapshot> snapshots = new ArrayList<>(items.size());
 
         for (OrderItemRequest item : items) {
-            UUID productId;
-            try {
-                productId = UUID.fromString(item.getProductId());
-            } catch (IllegalArgumentException ex) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid product id supplied");
-            }
-            ProductEntity product = products.stream()
-                    .filter(entry -> entry.getId().equals(productId))
-                    .findFirst()
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Product not found"));
-
-            OptionsDefinition optionsDefinition = convertOptions(product.getOptionsDefinition());
-            Map<String, Object> selectedOptions = Optional.ofNullable(item.getSelectedOptions()).orElseGet(HashMap::new);
-            optionsValidationService.validateSelection(optionsDefinition, selectedOptions);
-
-            BigDecimal optionsPrice = calculateOptionsPrice(optionsDefinition, selectedOptions);
-            BigDecimal basePrice = product.getProductPriceGross();
-            int quantity = Math.max(item.getQuantity(), 1);
-            BigDecimal itemPrice = basePrice.add(optionsPrice).multiply(BigDecimal.valueOf(quantity));
-            itemPrice = itemPrice.setScale(2, RoundingMode.HALF_UP);
-            optionsPrice = optionsPrice.setScale(2, RoundingMode.HALF_UP);
-
-            total = total.add(itemPrice);
-
-            OrderItemSnapshot snapshot = new OrderItemSnapshot(
-                    product.getId().toString(),
-                    product.getProductName(),
-                    basePrice.setScale(2, RoundingMode.HALF_UP),
-                    product.getCurrencyCode(),
-                    quantity,
-                    selectedOptions,
-                    optionsPrice,
-                    itemPrice
-            );
+            CatalogProduct product = resolveProduct(catalog, item);
+            Map<String, Object> selectedOptions = selectedOptions(item);
+            optionsValidationService.validateSelection(product.options(), selectedOptions);
+
+            OrderItemSnapshot snapshot = priceDecimal(product, selectedOptions, Math.max(item.getQuantity(), 1));
+            total = total.add(snapshot.getItemPriceGrossSnapshot());
             snapshots.add(snapshot);
         }
 
@@ -78,33 +67,97 @@ public class PriceCalculationService {
         return new OrderCalculationResult(snapshots, roundedTotal, currencyCode);
     }
 
-    private OptionsDefinition convertOptions(JsonNode jsonNode) {
-        if (jsonNode == null || jsonNode.isNull()) {
-            return new OptionsDefinition(List.of());
+    private OrderCalculationResult calculateFixedPoint(CatalogSnapshot catalog, List<OrderItemRequest> items, String currencyCode) {
+        long totalCents = 0;
+        final List<OrderItemSnapshot> snapshots = new ArrayList<>(items.size());
+
+        try {
+            for (OrderItemRequest item : items) {
+                CatalogProduct product = resolveProduct(catalog, item);
+                Map<String, Object> selectedOptions = selectedOptions(item);
+                optionsValidationService.validateSelection(product.options(), selectedOptions);
+
+                int quantity = Math.max(item.getQuantity(), 1);
+                if (!product.fixedPointSupported()) {
+                    OrderItemSnapshot snapshot = priceDecimal(product, selectedOptions, quantity);
+                    totalCents = Math.addExact(totalCents, MinorUnits.toMinorUnits(snapshot.getItemPriceGrossSnapshot()));
+                    snapshots.add(snapshot);
+                    continue;
+                }
+
+                long optionsCents = calculateOptionsPriceCents(product.options(), selectedOptions);
+                long unitCents = Math.addExact(product.productPriceCents(), optionsCents);
+                long itemCents = Math.multiplyExact(unitCents, quantity);
+                totalCents = Math.addExact(totalCents, itemCents);
+
+                snapshots.add(new OrderItemSnapshot(
+                        product.id().toString(),
+                        product.productName(),
+                        MinorUnits.toDecimal(product.productPriceCents()),
+                        product.currencyCode(),
+                        quantity,
+                        selectedOptions,
+                        MinorUnits.toDecimal(optionsCents),
+                        MinorUnits.toDecimal(itemCents)
+                ));
+            }
+        } catch (ArithmeticException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Order total exceeds the supported range");
         }
+
+        return new OrderCalculationResult(snapshots, MinorUnits.toDecimal(totalCents), currencyCode);
+    }
+
+    private CatalogProduct resolveProduct(CatalogSnapshot catalog, OrderItemRequest item) {
+        UUID productId;
         try {
-            return objectMapper.treeToValue(jsonNode, OptionsDefinition.class);
-        } catch (JsonProcessingException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to parse options definition");
+            productId = UUID.fromString(item.getProductId());
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid product id supplied");
         }
+        return catalog.find(productId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Product not found"));
+    }
+
+    private Map<String, Object> selectedOptions(OrderItemRequest item) {
+        return item.getSelectedOptions() == null ? Map.of() : item.getSelectedOptions();
+    }
+
+    private OrderItemSnapshot priceDecimal(CatalogProduct product, Map<String, Object> selectedOptions, int quantity) {
+        BigDecimal optionsPrice = calculateOptionsPrice(product.options(), selectedOptions);
+        BigDecimal basePrice = product.productPriceGross();
+        BigDecimal itemPrice = basePrice.add(optionsPrice).multiply(BigDecimal.valueOf(quantity));
+        itemPrice = itemPrice.setScale(2, RoundingMode.HALF_UP);
+        optionsPrice = optionsPrice.setScale(2, RoundingMode.HALF_UP);
+
+        return new OrderItemSnapshot(
+                product.id().toString(),
+                product.productName(),
+                basePrice.setScale(2, RoundingMode.HALF_UP),
+                product.currencyCode(),
+                quantity,
+                selectedOptions,
+                optionsPrice,
+                itemPrice
+        );
     }
 
-    private BigDecimal calculateOptionsPrice(OptionsDefinition definition, Map<String, Object> selectedOptions) {
+    private BigDecimal calculateOptionsPrice(CompiledOptions options, Map<String, Object> selectedOptions) {
         BigDecimal sum = BigDecimal.ZERO;
-        for (OptionGroupDefinition group : definition.getGroups()) {
-            Object selection = selectedOptions.get(group.getId());
-            if (selection == null) {
+        for (Map.Entry<String, Object> selection : selectedOptions.entrySet()) {
+            CompiledOptions.CompiledGroup group = options.group(selection.getKey());
+            if (group == null || selection.getValue() == null) {
                 continue;
             }
-            if (group.getType() == OptionGroupDefinition.GroupType.single) {
-                if (selection instanceof String value) {
-                    sum = sum.add(findPriceDelta(group, value));
+            if (group.type() == OptionGroupDefinition.GroupType.single) {
+                if (selection.getValue() instanceof String value) {
+                    sum = sum.add(group.priceDelta(value));
                 }
-            } else if (group.getType() == OptionGroupDefinition.GroupType.multi) {
-                if (selection instanceof Iterable<?> iterable) {
+            } else if (group.type() == OptionGroupDefinition.GroupType.multi) {
+                if (selection.getValue() instanceof Iterable<?> iterable) {
                     for (Object entry : iterable) {
                         if (entry instanceof String value) {
-                            sum = sum.add(findPriceDelta(group, value));
+                            sum = sum.add(group.priceDelta(value));
                         }
                     }
                 }
@@ -113,12 +166,27 @@ public class PriceCalculationService {
         return sum;
     }
 
-    private BigDecimal findPriceDelta(OptionGroupDefinition group, String value) {
-        for (OptionValueDefinition option : group.getValues()) {
-            if (option.getLabel().equals(value)) {
-                return option.getPriceDelta();
+    private long calculateOptionsPriceCents(CompiledOptions options, Map<String, Object> selectedOptions) {
+        long sum = 0;
+        for (Map.Entry<String, Object> selection : selectedOptions.entrySet()) {
+            CompiledOptions.CompiledGroup group = options.group(selection.getKey());
+            if (group == null || selection.getValue() == null) {
+                continue;
+            }
+            if (group.type() == OptionGroupDefinition.GroupType.single) {
+                if (selection.getValue() instanceof String value) {
+                    sum = Math.addExact(sum, group.priceDeltaCents(value));
+                }
+            } else if (group.type() == OptionGroupDefinition.GroupType.multi) {
+                if (selection.getValue() instanceof Iterable<?> iterable) {
+                    for (Object entry : iterable) {
+                        if (entry instanceof String value) {
+                            sum = Math.addExact(sum, group.priceDeltaCents(value));
+                        }
+                    }
+                }
             }
         }
-        return BigDecimal.ZERO;
+        return sum;
     }
 }
@@ -0,0 +1,129 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.data.entity.ProductEntity;
+import de.lunchrunner.backend.data.repository.ProductRepository;
+import de.lunchrunner.backend.model.options.CompiledOptions;
+import de.lunchrunner.backend.model.options.OptionsDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class ProductCatalog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductCatalog.class);
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public ProductCatalog(ProductRepository productRepository, ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogImported(CatalogImportedEvent event) {
+        rebuild();
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onResync(RealtimeResyncEvent event) {
+        rebuild();
+    }
+
+    CatalogSnapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            CatalogSnapshot previous = snapshot.get();
+            long nextVersion = previous == null ? 1 : previous.version() + 1;
+            List<CatalogProduct> products = productRepository.findAll().stream()
+                    .map(entity -> reuseOrCompile(previous, entity))
+                    .filter(Objects::nonNull)
+                    .toList();
+            CatalogSnapshot rebuilt = CatalogSnapshot.of(nextVersion, products);
+            snapshot.set(rebuilt);
+            LOGGER.debug("Rebuilt product catalog snapshot version {} with {} products", nextVersion, products.size());
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private CatalogProduct reuseOrCompile(CatalogSnapshot previous, ProductEntity entity) {
+        if (previous != null && entity.getVersion() != null) {
+            CatalogProduct existing = previous.products().get(entity.getId());
+            if (existing != null && entity.getVersion().equals(existing.version())) {
+                return existing;
+            }
+        }
+        return toCatalogProduct(entity);
+    }
+
+    private CatalogProduct toCatalogProduct(ProductEntity entity) {
+        CompiledOptions options;
+        try {
+            options = CompiledOptions.compile(convertOptions(entity.getOptionsDefinition()));
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Leaving product {} out of the catalog, it cannot be ordered until its options definition is fixed",
+                    entity.getId(), ex);
+            return null;
+        }
+        return CatalogProduct.of(
+                entity.getId(),
+                entity.getVersion(),
+                entity.getProductName(),
+                entity.getProductPriceGross(),
+                entity.getCurrencyCode(),
+                entity.isProductActive(),
+                options
+        );
+    }
+
+    private OptionsDefinition convertOptions(JsonNode jsonNode) {
+        if (jsonNode == null || jsonNode.isNull()) {
+            return new OptionsDefinition(List.of());
+        }
+        try {
+            return objectMapper.treeToValue(jsonNode, OptionsDefinition.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to parse options definition", ex);
+        }
+    }
+}
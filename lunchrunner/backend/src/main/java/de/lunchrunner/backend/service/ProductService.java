@@ -7,6 +7,7 @@ import de.lunchrunner.backend.data.repository.ProductRepository;
 import de.lunchrunner.backend.model.options.OptionsDefinition;
 import de.lunchrunner.backend.web.dto.ProductRequest;
 import de.lunchrunner.backend.web.dto.ProductResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +23,14 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductService(ProductRepository productRepository, ObjectMapper objectMapper) {
+    public ProductService(ProductRepository productRepository,
+                          ObjectMapper objectMapper,
+                          ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -42,6 +47,11 @@ public class ProductService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Optional<ProductResponse> findProduct(UUID id) {
+        return productRepository.findById(id).map(this::toResponse);
+    }
+
     public ProductResponse saveProduct(ProductRequest request) {
         ProductEntity entity = resolveEntity(request.getId());
         entity.setProductName(request.getProductName());
@@ -52,7 +62,9 @@ public class ProductService {
         entity.setProductActive(request.isProductActive());
         entity.setOptionsDefinition(objectMapper.valueToTree(request.getOptionsDefinition()));
         ProductEntity saved = productRepository.save(entity);
-        return toResponse(saved);
+        ProductResponse response = toResponse(saved);
+        eventPublisher.publishEvent(new CatalogChangedEvent(saved.getId(), response));
+        return response;
     }
 
     public void deleteProduct(String id) {
@@ -61,6 +73,7 @@ public class ProductService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Product not found");
         }
         productRepository.deleteById(uuid);
+        eventPublisher.publishEvent(new CatalogChangedEvent(uuid, null));
     }
 
     private ProductEntity resolveEntity(String id) {
@@ -0,0 +1,316 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import de.lunchrunner.backend.config.ExportDatabase;
+import de.lunchrunner.backend.data.entity.ProductEntity;
+import de.lunchrunner.backend.data.repository.ProductJdbcRepository;
+import de.lunchrunner.backend.model.options.OptionsDefinition;
+import de.lunchrunner.backend.web.dto.ProductImportError;
+import de.lunchrunner.backend.web.dto.ProductImportResponse;
+import de.lunchrunner.backend.web.dto.ProductRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductTransferService {
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "id",
+            "productName",
+            "productDescription",
+            "productPriceGross",
+            "currencyCode",
+            "productCategory",
+            "productActive",
+            "optionsDefinition"
+    );
+
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final OptionsValidationService optionsValidationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExportDatabase exportDatabase;
+    private final TransferWriter<ProductEntity> exportWriter;
+
+    public ProductTransferService(ProductJdbcRepository productJdbcRepository,
+                                  OptionsValidationService optionsValidationService,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  ExportDatabase exportDatabase) {
+        this.productJdbcRepository = productJdbcRepository;
+        this.optionsValidationService = optionsValidationService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.exportDatabase = exportDatabase;
+        this.exportWriter = new TransferWriter<>(objectMapper, CSV_COLUMNS, this::writeJson, this::toCsvRecord);
+    }
+
+    public ProductImportResponse importProducts(InputStream input, TransferFormat format) {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            if (format == TransferFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Failed to read import: " + ex.getMessage());
+        }
+        if (run.rows == 0 && run.errors.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Import contains no products");
+        }
+        if (!run.errors.isEmpty()) {
+            return new ProductImportResponse(0, List.copyOf(run.errors));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < run.products.size(); from += UPSERT_CHUNK_SIZE) {
+                productJdbcRepository.upsertAll(run.products.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, run.products.size())));
+            }
+            eventPublisher.publishEvent(new CatalogImportedEvent(run.rows));
+        });
+        return new ProductImportResponse(run.rows, List.of());
+    }
+
+    public void exportProducts(OutputStream output, TransferFormat format) throws IOException {
+        exportWriter.write(output, format, rows -> exportDatabase.readOnly(() -> productJdbcRepository.streamAll(rows)));
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        ObjectReader productReader = objectMapper.readerFor(ProductRequest.class);
+        long line = 0;
+        String content;
+        while ((content = reader.readLine()) != null) {
+            line++;
+            if (content.isBlank()) {
+                continue;
+            }
+            ProductRequest request;
+            try {
+                request = productReader.readValue(content);
+            } catch (JsonProcessingException ex) {
+                run.reject(line, "Malformed JSON: " + ex.getOriginalMessage());
+                continue;
+            }
+            run.accept(line, request);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvReader csvReader = new CsvReader(reader);
+        List<String> header = csvReader.readRecord();
+        if (header == null) {
+            return;
+        }
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int index = 0; index < header.size(); index++) {
+            String column = header.get(index).trim();
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown CSV column: " + column);
+            }
+            columns.put(column, index);
+        }
+        if (!columns.containsKey("productName") || !columns.containsKey("productPriceGross")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must contain productName and productPriceGross");
+        }
+        List<String> record;
+        while ((record = csvReader.readRecord()) != null) {
+            long line = csvReader.recordLine();
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (record.size() != header.size()) {
+                run.reject(line, "Expected " + header.size() + " columns but found " + record.size());
+                continue;
+            }
+            try {
+                run.accept(line, toRequest(record, columns));
+            } catch (IllegalArgumentException ex) {
+                run.reject(line, ex.getMessage());
+            }
+        }
+    }
+
+    private ProductRequest toRequest(List<String> record, Map<String, Integer> columns) {
+        ProductRequest request = new ProductRequest();
+        request.setId(column(record, columns, "id"));
+        request.setProductName(column(record, columns, "productName"));
+        request.setProductDescription(column(record, columns, "productDescription"));
+        String price = column(record, columns, "productPriceGross");
+        if (price != null) {
+            try {
+                request.setProductPriceGross(new BigDecimal(price.trim()));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid productPriceGross: " + price);
+            }
+        }
+        String currency = column(record, columns, "currencyCode");
+        if (currency != null) {
+            request.setCurrencyCode(currency.trim());
+        }
+        request.setProductCategory(column(record, columns, "productCategory"));
+        String active = column(record, columns, "productActive");
+        if (active != null) {
+            if (!active.equalsIgnoreCase("true") && !active.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("Invalid productActive: " + active);
+            }
+            request.setProductActive(Boolean.parseBoolean(active));
+        }
+        String options = column(record, columns, "optionsDefinition");
+        if (options == null) {
+            request.setOptionsDefinition(new OptionsDefinition(List.of()));
+        } else {
+            try {
+                request.setOptionsDefinition(objectMapper.readValue(options, OptionsDefinition.class));
+            } catch (JsonProcessingException ex) {
+                throw new IllegalArgumentException("Invalid optionsDefinition: " + ex.getOriginalMessage());
+            }
+        }
+        return request;
+    }
+
+    private String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private void writeJson(JsonGenerator generator, ProductEntity product) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", product.getId().toString());
+        generator.writeStringField("productName", product.getProductName());
+        generator.writeStringField("productDescription", product.getProductDescription());
+        generator.writeNumberField("productPriceGross", product.getProductPriceGross());
+        generator.writeStringField("currencyCode", product.getCurrencyCode());
+        generator.writeStringField("productCategory", product.getProductCategory());
+        generator.writeBooleanField("productActive", product.isProductActive());
+        generator.writeFieldName("optionsDefinition");
+        generator.writeTree(product.getOptionsDefinition());
+        generator.writeEndObject();
+    }
+
+    private List<String> toCsvRecord(ProductEntity product) {
+        return Arrays.asList(
+                product.getId().toString(),
+                product.getProductName(),
+                product.getProductDescription(),
+                product.getProductPriceGross().toPlainString(),
+                product.getCurrencyCode(),
+                product.getProductCategory(),
+                Boolean.toString(product.isProductActive()),
+                product.getOptionsDefinition().toString()
+        );
+    }
+
+    private final class ImportRun {
+
+        private final List<ProductEntity> products = new ArrayList<>();
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private final Set<UUID> seenIds = new HashSet<>();
+        private int rows;
+
+        void accept(long line, ProductRequest request) {
+            if (request == null) {
+                reject(line, "Product must not be null");
+                return;
+            }
+            Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            try {
+                optionsValidationService.validateDefinition(request.getOptionsDefinition());
+            } catch (IllegalArgumentException ex) {
+                reject(line, ex.getMessage());
+                return;
+            }
+            UUID id;
+            if (request.getId() == null || request.getId().isBlank()) {
+                id = UUID.randomUUID();
+            } else {
+                try {
+                    id = UUID.fromString(request.getId().trim());
+                } catch (IllegalArgumentException ex) {
+                    reject(line, "Invalid identifier supplied");
+                    return;
+                }
+            }
+            if (!seenIds.add(id)) {
+                reject(line, "Duplicate product id " + id);
+                return;
+            }
+            rows++;
+            if (!errors.isEmpty()) {
+                return;
+            }
+            products.add(toEntity(id, request));
+        }
+
+        void reject(long line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportError(line, message));
+            }
+            products.clear();
+        }
+
+        private ProductEntity toEntity(UUID id, ProductRequest request) {
+            ProductEntity entity = new ProductEntity();
+            entity.setId(id);
+            entity.setProductName(request.getProductName());
+            entity.setProductDescription(request.getProductDescription());
+            entity.setProductPriceGross(request.getProductPriceGross());
+            entity.setCurrencyCode(request.getCurrencyCode() == null || request.getCurrencyCode().isBlank()
+                    ? "EUR"
+                    : request.getCurrencyCode());
+            entity.setProductCategory(request.getProductCategory());
+            entity.setProductActive(request.isProductActive());
+            entity.setOptionsDefinition(objectMapper.valueToTree(request.getOptionsDefinition()));
+            return entity;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.config.ExecutionThreads;
+import de.lunchrunner.backend.web.dto.BoardDelta;
+import de.lunchrunner.backend.web.dto.OrderResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RealtimeBroadcastScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RealtimeBroadcastScheduler.class);
+
+    private final RealtimeBroadcastService realtimeBroadcastService;
+    private final BoardSequence boardSequence;
+    private final ApplicationProperties properties;
+    private final ScheduledExecutorService executor;
+    private final Map<String, PendingChange> pendingChanges = new LinkedHashMap<>();
+    private final List<List<OrderResponse>> pendingBatches = new ArrayList<>();
+    private boolean flushScheduled;
+    private boolean fullRefreshRequested;
+
+    public RealtimeBroadcastScheduler(RealtimeBroadcastService realtimeBroadcastService,
+                                      BoardSequence boardSequence,
+                                      ApplicationProperties properties,
+                                      ExecutionThreads executionThreads) {
+        this.realtimeBroadcastService = realtimeBroadcastService;
+        this.boardSequence = boardSequence;
+        this.properties = properties;
+        this.executor = Executors.newSingleThreadScheduledExecutor(executionThreads.threadFactory("realtime-broadcast"));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        enqueue("order:" + event.orderId(), PendingChange.forOrder(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onOrdersCreated(OrdersCreatedEvent event) {
+        pendingBatches.add(event.orders());
+        scheduleFlush();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        enqueue("product:" + event.productId(), PendingChange.forProduct(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onBoardReset(BoardResetEvent event) {
+        fullRefreshRequested = true;
+        scheduleFlush();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCatalogImported(CatalogImportedEvent event) {
+        fullRefreshRequested = true;
+        scheduleFlush();
+    }
+
+    @EventListener
+    public synchronized void onResync(RealtimeResyncEvent event) {
+        fullRefreshRequested = true;
+        scheduleFlush();
+    }
+
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized void enqueue(String key, PendingChange change) {
+        PendingChange merged = change.mergeInto(pendingChanges.get(key));
+        if (merged == null) {
+            pendingChanges.remove(key);
+        } else {
+            pendingChanges.put(key, merged);
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Duration window = properties.getRealtimeCoalesceWindow();
+            executor.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void flush() {
+        List<PendingChange> changes;
+        List<List<OrderResponse>> batches;
+        boolean fullRefresh;
+        synchronized (this) {
+            changes = new ArrayList<>(pendingChanges.values());
+            batches = new ArrayList<>(pendingBatches);
+            fullRefresh = fullRefreshRequested;
+            pendingChanges.clear();
+            pendingBatches.clear();
+            fullRefreshRequested = false;
+            flushScheduled = false;
+        }
+        if (changes.isEmpty() && batches.isEmpty() && !fullRefresh) {
+            return;
+        }
+        long sequenceBefore = boardSequence.current();
+        try {
+            if (fullRefresh || changes.size() + batches.size() > properties.getRealtimeMaxBatchEvents()) {
+                realtimeBroadcastService.refreshAll();
+                return;
+            }
+            List<BoardDelta> deltas = new ArrayList<>();
+            for (List<OrderResponse> batch : batches) {
+                batch.forEach(order -> deltas.add(BoardDelta.orderCreated(order)));
+            }
+            for (PendingChange change : changes) {
+                deltas.add(change.toDelta());
+            }
+            realtimeBroadcastService.boardChanged(deltas);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to broadcast {} realtime changes and {} order batches (board sequence {} to {}, full refresh: {})",
+                    changes.size(), batches.size(), sequenceBefore, boardSequence.current(), fullRefresh, ex);
+        }
+    }
+
+    private record PendingChange(OrderChangedEvent orderEvent, CatalogChangedEvent catalogEvent) {
+
+        static PendingChange forOrder(OrderChangedEvent event) {
+            return new PendingChange(event, null);
+        }
+
+        static PendingChange forProduct(CatalogChangedEvent event) {
+            return new PendingChange(null, event);
+        }
+
+        PendingChange mergeInto(PendingChange previous) {
+            if (previous == null || orderEvent == null) {
+                return this;
+            }
+            OrderChangedEvent.Type previousType = previous.orderEvent().type();
+            if (previousType == OrderChangedEvent.Type.CREATED) {
+                if (orderEvent.type() == OrderChangedEvent.Type.DELETED) {
+                    return null;
+                }
+                return forOrder(new OrderChangedEvent(OrderChangedEvent.Type.CREATED, orderEvent.orderId(), orderEvent.order()));
+            }
+            return this;
+        }
+
+        BoardDelta toDelta() {
+            if (catalogEvent != null) {
+                return BoardDelta.productChanged(catalogEvent.productId().toString(), catalogEvent.product());
+            }
+            return switch (orderEvent.type()) {
+                case CREATED -> BoardDelta.orderCreated(orderEvent.order());
+                case UPDATED -> BoardDelta.orderUpdated(orderEvent.order());
+                case DELETED -> BoardDelta.orderDeleted(orderEvent.orderId().toString());
+            };
+        }
+    }
+}
@@ -1,24 +1,31 @@
 package de.lunchrunner.backend.service;
 
-import de.lunchrunner.backend.web.dto.OrderResponse;
-import de.lunchrunner.backend.web.dto.ProductResponse;
+import de.lunchrunner.backend.web.dto.BoardChangedMessage;
+import de.lunchrunner.backend.web.dto.BoardDelta;
+import de.lunchrunner.backend.web.dto.BoardSyncMessage;
+import de.lunchrunner.backend.web.dto.PickupLineResponse;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class RealtimeBroadcastService {
 
-    private final ProductService productService;
-    private final OrderService orderService;
+    private final BoardPayloadCache boardPayloadCache;
+    private final BoardSequence boardSequence;
+    private final PickupList pickupList;
     private final ObjectProvider<RealtimeGateway> realtimeGatewayProvider;
+    private final ReentrantLock lock = new ReentrantLock();
 
-    public RealtimeBroadcastService(ProductService productService,
-                                    OrderService orderService,
+    public RealtimeBroadcastService(BoardPayloadCache boardPayloadCache,
+                                    BoardSequence boardSequence,
+                                    PickupList pickupList,
                                     ObjectProvider<RealtimeGateway> realtimeGatewayProvider) {
-        this.productService = productService;
-        this.orderService = orderService;
+        this.boardPayloadCache = boardPayloadCache;
+        this.boardSequence = boardSequence;
+        this.pickupList = pickupList;
         this.realtimeGatewayProvider = realtimeGatewayProvider;
     }
 
@@ -27,9 +34,37 @@ public class RealtimeBroadcastService {
         if (realtimeGateway == null) {
             return;
         }
-        List<ProductResponse> products = productService.getActiveProducts();
-        List<OrderResponse> orders = orderService.listOrders();
-        realtimeGateway.emitProductsUpdated(products);
-        realtimeGateway.emitOrdersUpdated(orders);
+        lock.lock();
+        try {
+            long sequence = boardSequence.next();
+            realtimeGateway.emitProductsUpdated(boardPayloadCache.activeProducts());
+            realtimeGateway.emitOrdersUpdated(boardPayloadCache.orders());
+            pickupList.drainChanges();
+            realtimeGateway.emitBoardEvent("pickupListUpdated", pickupList.current());
+            realtimeGateway.emitBoardEvent("boardSync", new BoardSyncMessage(sequence));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void boardChanged(List<BoardDelta> changes) {
+        lock.lock();
+        try {
+            List<PickupLineResponse> pickupLines = pickupList.drainChanges();
+            if (changes.isEmpty() && pickupLines.isEmpty()) {
+                return;
+            }
+            long sequence = boardSequence.next();
+            emit("boardChanged", new BoardChangedMessage(sequence, changes, pickupLines));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void emit(String eventName, Object payload) {
+        RealtimeGateway realtimeGateway = realtimeGatewayProvider.getIfAvailable();
+        if (realtimeGateway != null) {
+            realtimeGateway.emitBoardEvent(eventName, payload);
+        }
     }
 }
@@ -0,0 +1,253 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import de.lunchrunner.backend.config.ExecutionThreads;
+import de.lunchrunner.backend.web.dto.OrderResponse;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(prefix = "lunchrunner", name = "realtime-fanout", havingValue = "postgres")
+public class RealtimeClusterFanout {
+
+    static final String CHANNEL = "lunchrunner_realtime";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RealtimeClusterFanout.class);
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30_000;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final BoardScope boardScope;
+    private final ExecutionThreads executionThreads;
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+    private volatile Connection listenerConnection;
+
+    public RealtimeClusterFanout(JdbcTemplate jdbcTemplate,
+                                 DataSource dataSource,
+                                 ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher,
+                                 OrderService orderService,
+                                 ProductService productService,
+                                 BoardScope boardScope,
+                                 ExecutionThreads executionThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.orderService = orderService;
+        this.productService = productService;
+        this.boardScope = boardScope;
+        this.executionThreads = executionThreads;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = executionThreads.threadFactory("realtime-cluster").newThread(this::listen);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        Connection connection = listenerConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ex) {
+                LOGGER.debug("Failed to close realtime cluster connection", ex);
+            }
+        }
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        RealtimeClusterNotification.Kind kind = switch (event.type()) {
+            case CREATED -> RealtimeClusterNotification.Kind.ORDER_CREATED;
+            case UPDATED -> RealtimeClusterNotification.Kind.ORDER_UPDATED;
+            case DELETED -> RealtimeClusterNotification.Kind.ORDER_DELETED;
+        };
+        publish(kind, List.of(event.orderId()), null);
+    }
+
+    @EventListener
+    public void onOrdersCreated(OrdersCreatedEvent event) {
+        publish(RealtimeClusterNotification.Kind.ORDERS_CREATED, event.orders().stream()
+                .map(order -> UUID.fromString(order.id()))
+                .toList(), null);
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        publish(RealtimeClusterNotification.Kind.PRODUCT_CHANGED, List.of(event.productId()), null);
+    }
+
+    @EventListener
+    public void onCatalogImported(CatalogImportedEvent event) {
+        publish(RealtimeClusterNotification.Kind.CATALOG_IMPORTED, List.of(), null);
+    }
+
+    @EventListener
+    public void onBoardReset(BoardResetEvent event) {
+        publish(RealtimeClusterNotification.Kind.BOARD_RESET, List.of(), event.resetAt());
+    }
+
+    private void publish(RealtimeClusterNotification.Kind kind, List<UUID> ids, OffsetDateTime resetAt) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        String payload = encode(new RealtimeClusterNotification(instanceId, kind, ids, resetAt));
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            payload = encode(new RealtimeClusterNotification(instanceId, RealtimeClusterNotification.Kind.RESYNC, List.of(), null));
+        }
+        jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, payload);
+    }
+
+    private void listen() {
+        long reconnectDelay = 1000;
+        while (running) {
+            try (Connection connection = openConnection()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                LOGGER.info("Listening for realtime changes of other instances on channel {}", CHANNEL);
+                reconnectDelay = 1000;
+                eventPublisher.publishEvent(new RealtimeResyncEvent());
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Realtime cluster listener failed, reconnecting in {} ms", reconnectDelay, ex);
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+            } finally {
+                listenerConnection = null;
+            }
+        }
+    }
+
+    void dispatch(String payload) {
+        RealtimeClusterNotification notification;
+        try {
+            notification = objectMapper.readValue(payload, RealtimeClusterNotification.class);
+        } catch (JsonProcessingException ex) {
+            LOGGER.warn("Ignoring malformed realtime cluster notification: {}", payload);
+            return;
+        }
+        if (instanceId.equals(notification.origin())) {
+            return;
+        }
+        try {
+            replay(notification);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to replay {} from instance {}, resynchronizing", notification.kind(), notification.origin(), ex);
+            eventPublisher.publishEvent(new RealtimeResyncEvent());
+        }
+    }
+
+    private void replay(RealtimeClusterNotification notification) {
+        List<UUID> ids = notification.ids() == null ? List.of() : notification.ids();
+        switch (notification.kind()) {
+            case ORDER_CREATED -> replayOrders(OrderChangedEvent.Type.CREATED, ids);
+            case ORDER_UPDATED -> replayOrders(OrderChangedEvent.Type.UPDATED, ids);
+            case ORDER_DELETED -> ids.forEach(id -> eventPublisher.publishEvent(new OrderChangedEvent(OrderChangedEvent.Type.DELETED, id, null)));
+            case ORDERS_CREATED -> {
+                List<OrderResponse> orders = orderService.findOrders(ids);
+                if (!orders.isEmpty()) {
+                    eventPublisher.publishEvent(new OrdersCreatedEvent(orders));
+                }
+            }
+            case PRODUCT_CHANGED -> ids.forEach(id ->
+                    eventPublisher.publishEvent(new CatalogChangedEvent(id, productService.findProduct(id).orElse(null))));
+            case CATALOG_IMPORTED -> eventPublisher.publishEvent(new CatalogImportedEvent(0));
+            case BOARD_RESET -> {
+                boardScope.observeReset(notification.resetAt());
+                eventPublisher.publishEvent(new BoardResetEvent(notification.resetAt()));
+            }
+            case RESYNC -> eventPublisher.publishEvent(new RealtimeResyncEvent());
+        }
+    }
+
+    private void replayOrders(OrderChangedEvent.Type type, List<UUID> ids) {
+        for (OrderResponse order : orderService.findOrders(ids)) {
+            eventPublisher.publishEvent(new OrderChangedEvent(type, UUID.fromString(order.id()), order));
+        }
+    }
+
+    private String encode(RealtimeClusterNotification notification) {
+        try {
+            return objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to encode realtime cluster notification", ex);
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        Properties connectionProperties = new Properties();
+        if (pool.getUsername() != null) {
+            connectionProperties.setProperty("user", pool.getUsername());
+        }
+        if (pool.getPassword() != null) {
+            connectionProperties.setProperty("password", pool.getPassword());
+        }
+        connectionProperties.setProperty("ApplicationName", "lunchrunner-realtime-listener");
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(pool.getJdbcUrl(), connectionProperties);
+    }
+}
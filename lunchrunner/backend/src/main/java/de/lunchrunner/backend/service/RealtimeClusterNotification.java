@@ -0,0 +1,19 @@
+package de.lunchrunner.backend.service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record RealtimeClusterNotification(String origin, Kind kind, List<UUID> ids, OffsetDateTime resetAt) {
+
+    public enum Kind {
+        ORDER_CREATED,
+        ORDER_UPDATED,
+        ORDER_DELETED,
+        ORDERS_CREATED,
+        PRODUCT_CHANGED,
+        CATALOG_IMPORTED,
+        BOARD_RESET,
+        RESYNC
+    }
+}
@@ -1,9 +1,16 @@
 package de.lunchrunner.backend.service;
 
+import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIONamespace;
 import com.corundumstudio.socketio.SocketIOServer;
-import de.lunchrunner.backend.web.dto.OrderResponse;
-import de.lunchrunner.backend.web.dto.ProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import de.lunchrunner.backend.config.ConnectionHoldMonitor;
+import de.lunchrunner.backend.web.dto.BoardSyncMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
@@ -11,7 +18,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
 
 @Component
 @ConditionalOnBean(SocketIOServer.class)
@@ -19,10 +27,31 @@ public class RealtimeGateway {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RealtimeGateway.class);
     private final SocketIOServer socketIOServer;
+    private final BoardPayloadCache boardPayloadCache;
+    private final BoardSequence boardSequence;
+    private final PickupList pickupList;
+    private final RealtimeBroadcastScheduler realtimeBroadcastScheduler;
+    private final ConnectionHoldMonitor connectionHoldMonitor;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     private SocketIONamespace namespace;
 
-    public RealtimeGateway(SocketIOServer socketIOServer) {
+    public RealtimeGateway(SocketIOServer socketIOServer,
+                           BoardPayloadCache boardPayloadCache,
+                           BoardSequence boardSequence,
+                           PickupList pickupList,
+                           RealtimeBroadcastScheduler realtimeBroadcastScheduler,
+                           ConnectionHoldMonitor connectionHoldMonitor,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
         this.socketIOServer = socketIOServer;
+        this.boardPayloadCache = boardPayloadCache;
+        this.boardSequence = boardSequence;
+        this.pickupList = pickupList;
+        this.realtimeBroadcastScheduler = realtimeBroadcastScheduler;
+        this.connectionHoldMonitor = connectionHoldMonitor;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
     }
 
     @PostConstruct
@@ -31,8 +60,15 @@ public class RealtimeGateway {
         namespace.addConnectListener(client -> {
             LOGGER.info("Socket connected: {}", client.getSessionId());
             client.joinRoom("global");
+            try {
+                realtimeBroadcastScheduler.execute(() -> sendSnapshot(client));
+            } catch (RejectedExecutionException ex) {
+                LOGGER.warn("Skipped board snapshot for {} during shutdown", client.getSessionId());
+            }
         });
         namespace.addDisconnectListener(client -> LOGGER.info("Socket disconnected: {}", client.getSessionId()));
+        Gauge.builder("lunchrunner.realtime.clients", this, RealtimeGateway::connectedClients)
+                .register(meterRegistry);
         if (!socketIOServer.isActive()) {
             socketIOServer.start();
         }
@@ -43,15 +79,54 @@ public class RealtimeGateway {
         socketIOServer.stop();
     }
 
-    public void emitProductsUpdated(List<ProductResponse> products) {
+    public void emitProductsUpdated(EncodedPayload products) {
+        connectionHoldMonitor.flagIfHolding("fanout");
         if (namespace != null) {
-            namespace.getRoomOperations("global").sendEvent("productsUpdated", products);
+            fanout("productsUpdated", products.json().length, products.raw());
         }
     }
 
-    public void emitOrdersUpdated(List<OrderResponse> orders) {
+    public void emitOrdersUpdated(EncodedPayload orders) {
+        connectionHoldMonitor.flagIfHolding("fanout");
         if (namespace != null) {
-            namespace.getRoomOperations("global").sendEvent("ordersUpdated", orders);
+            fanout("ordersUpdated", orders.json().length, orders.raw());
+        }
+    }
+
+    public void emitBoardEvent(String eventName, Object payload) {
+        connectionHoldMonitor.flagIfHolding("fanout");
+        if (namespace != null) {
+            byte[] json;
+            try {
+                json = objectMapper.writeValueAsBytes(payload);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Failed to encode realtime event " + eventName, ex);
+            }
+            fanout(eventName, json.length, new RawValue(new String(json, StandardCharsets.UTF_8)));
+        }
+    }
+
+    int connectedClients() {
+        SocketIONamespace current = namespace;
+        return current == null ? 0 : current.getAllClients().size();
+    }
+
+    private void fanout(String eventName, int payloadBytes, Object payload) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        namespace.getRoomOperations("global").sendEvent(eventName, payload);
+        sample.stop(meterRegistry.timer("lunchrunner.realtime.fanout", "event", eventName));
+        meterRegistry.summary("lunchrunner.realtime.fanout.bytes", "event", eventName).record(payloadBytes);
+    }
+
+    private void sendSnapshot(SocketIOClient client) {
+        try {
+            long sequence = boardSequence.current();
+            client.sendEvent("productsUpdated", boardPayloadCache.activeProducts().raw());
+            client.sendEvent("ordersUpdated", boardPayloadCache.orders().raw());
+            client.sendEvent("pickupListUpdated", pickupList.current());
+            client.sendEvent("boardSync", new BoardSyncMessage(sequence));
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to send board snapshot to {}", client.getSessionId(), ex);
         }
     }
 }
@@ -0,0 +1,4 @@
+package de.lunchrunner.backend.service;
+
+public record RealtimeResyncEvent() {
+}
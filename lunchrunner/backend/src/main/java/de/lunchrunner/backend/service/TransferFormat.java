@@ -0,0 +1,60 @@
+package de.lunchrunner.backend.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public enum TransferFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    TransferFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public MediaType mediaTypeWithCharset() {
+        return new MediaType(mediaType.getType(), mediaType.getSubtype(), StandardCharsets.UTF_8);
+    }
+
+    public static TransferFormat fromParameter(String value) {
+        String normalized = value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        for (TransferFormat format : values()) {
+            if (format.extension.equals(normalized)) {
+                return format;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported format: " + value);
+    }
+
+    public static TransferFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            try {
+                MediaType requested = MediaType.parseMediaType(contentType);
+                for (TransferFormat format : values()) {
+                    if (format.mediaType.equalsTypeAndSubtype(requested)) {
+                        return format;
+                    }
+                }
+            } catch (InvalidMediaTypeException ex) {
+                // fall through to the unsupported media type response
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Import expects application/x-ndjson or text/csv");
+    }
+}
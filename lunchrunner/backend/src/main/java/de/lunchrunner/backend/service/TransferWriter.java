@@ -0,0 +1,83 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class TransferWriter<T> {
+
+    @FunctionalInterface
+    interface JsonRowWriter<T> {
+        void write(JsonGenerator generator, T row) throws IOException;
+    }
+
+    private final ObjectMapper objectMapper;
+    private final List<String> csvColumns;
+    private final JsonRowWriter<T> jsonRowWriter;
+    private final Function<T, List<String>> csvRecord;
+
+    TransferWriter(ObjectMapper objectMapper,
+                   List<String> csvColumns,
+                   JsonRowWriter<T> jsonRowWriter,
+                   Function<T, List<String>> csvRecord) {
+        this.objectMapper = objectMapper;
+        this.csvColumns = csvColumns;
+        this.jsonRowWriter = jsonRowWriter;
+        this.csvRecord = csvRecord;
+    }
+
+    void write(OutputStream output, TransferFormat format, Consumer<Consumer<T>> rows) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try {
+            if (format == TransferFormat.CSV) {
+                writeCsv(writer, rows);
+            } else {
+                writeNdjson(writer, rows);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Writer writer, Consumer<Consumer<T>> rows) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(writer);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        boolean[] written = {false};
+        rows.accept(row -> {
+            try {
+                jsonRowWriter.write(generator, row);
+                written[0] = true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.flush();
+        if (written[0]) {
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsv(Writer writer, Consumer<Consumer<T>> rows) throws IOException {
+        CsvWriter csvWriter = new CsvWriter(writer);
+        csvWriter.writeRecord(csvColumns);
+        rows.accept(row -> {
+            try {
+                csvWriter.writeRecord(csvRecord.apply(row));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package de.lunchrunner.backend.web.controller;
+
+import de.lunchrunner.backend.auth.ClerkAdminVerifier;
+import de.lunchrunner.backend.service.BoardScope;
+import de.lunchrunner.backend.web.dto.BoardResetResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/board")
+public class AdminBoardController {
+
+    private final BoardScope boardScope;
+    private final ClerkAdminVerifier clerkAdminVerifier;
+
+    public AdminBoardController(BoardScope boardScope, ClerkAdminVerifier clerkAdminVerifier) {
+        this.boardScope = boardScope;
+        this.clerkAdminVerifier = clerkAdminVerifier;
+    }
+
+    @PostMapping("/reset")
+    public BoardResetResponse resetBoard(@RequestHeader(name = "Authorization", required = false) String authorization) {
+        clerkAdminVerifier.assertAdmin(authorization);
+        return new BoardResetResponse(boardScope.reset());
+    }
+}
@@ -0,0 +1,45 @@
+package de.lunchrunner.backend.web.controller;
+
+import de.lunchrunner.backend.auth.ClerkAdminVerifier;
+import de.lunchrunner.backend.service.OrderExportRange;
+import de.lunchrunner.backend.service.OrderExportService;
+import de.lunchrunner.backend.service.TransferFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+public class AdminOrdersController {
+
+    private final OrderExportService orderExportService;
+    private final ClerkAdminVerifier clerkAdminVerifier;
+
+    public AdminOrdersController(OrderExportService orderExportService, ClerkAdminVerifier clerkAdminVerifier) {
+        this.orderExportService = orderExportService;
+        this.clerkAdminVerifier = clerkAdminVerifier;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestHeader(name = "Authorization", required = false) String authorization,
+                                                              @RequestParam(name = "from", required = false) String from,
+                                                              @RequestParam(name = "to", required = false) String to,
+                                                              @RequestParam(name = "format", defaultValue = "csv") String format) {
+        clerkAdminVerifier.assertAdmin(authorization);
+        TransferFormat transferFormat = TransferFormat.fromParameter(format);
+        OrderExportRange range = orderExportService.resolveRange(from, to);
+        StreamingResponseBody body = output -> orderExportService.exportOrders(output, transferFormat, range);
+        String filename = "orders-" + range.firstDay() + "-" + range.lastDay() + "." + transferFormat.extension();
+        return ResponseEntity.ok()
+                .contentType(transferFormat.mediaTypeWithCharset())
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
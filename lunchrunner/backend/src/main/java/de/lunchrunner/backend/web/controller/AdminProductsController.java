@@ -1,12 +1,18 @@
 package de.lunchrunner.backend.web.controller;
 
 import de.lunchrunner.backend.auth.ClerkAdminVerifier;
+import de.lunchrunner.backend.service.ListingETags;
 import de.lunchrunner.backend.service.ProductService;
-import de.lunchrunner.backend.service.RealtimeBroadcastService;
+import de.lunchrunner.backend.service.ProductTransferService;
+import de.lunchrunner.backend.service.TransferFormat;
+import de.lunchrunner.backend.web.dto.ProductImportResponse;
 import de.lunchrunner.backend.web.dto.ProductRequest;
 import de.lunchrunner.backend.web.dto.ProductResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,9 +20,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -24,30 +34,65 @@ import java.util.List;
 public class AdminProductsController {
 
     private final ProductService productService;
+    private final ProductTransferService productTransferService;
     private final ClerkAdminVerifier clerkAdminVerifier;
-    private final RealtimeBroadcastService realtimeBroadcastService;
+    private final ListingETags listingETags;
 
     public AdminProductsController(ProductService productService,
+                                   ProductTransferService productTransferService,
                                    ClerkAdminVerifier clerkAdminVerifier,
-                                   RealtimeBroadcastService realtimeBroadcastService) {
+                                   ListingETags listingETags) {
         this.productService = productService;
+        this.productTransferService = productTransferService;
         this.clerkAdminVerifier = clerkAdminVerifier;
-        this.realtimeBroadcastService = realtimeBroadcastService;
+        this.listingETags = listingETags;
     }
 
     @GetMapping
-    public List<ProductResponse> listProducts(@RequestHeader(name = "Authorization", required = false) String authorization) {
+    public ResponseEntity<List<ProductResponse>> listProducts(@RequestHeader(name = "Authorization", required = false) String authorization,
+                                                              WebRequest request) {
         clerkAdminVerifier.assertAdmin(authorization);
-        return productService.getAllProducts();
+        String etag = listingETags.allProducts();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(productService.getAllProducts());
     }
 
     @PostMapping
     public ProductResponse upsertProduct(@RequestHeader(name = "Authorization", required = false) String authorization,
                                          @Valid @RequestBody ProductRequest request) {
         clerkAdminVerifier.assertAdmin(authorization);
-        ProductResponse response = productService.saveProduct(request);
-        realtimeBroadcastService.refreshAll();
-        return response;
+        return productService.saveProduct(request);
+    }
+
+    @PostMapping(path = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ProductImportResponse> importProducts(@RequestHeader(name = "Authorization", required = false) String authorization,
+                                                                @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                InputStream body) {
+        clerkAdminVerifier.assertAdmin(authorization);
+        ProductImportResponse response = productTransferService.importProducts(body, TransferFormat.fromContentType(contentType));
+        HttpStatus status = response.errors().isEmpty() ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestHeader(name = "Authorization", required = false) String authorization,
+                                                                @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        clerkAdminVerifier.assertAdmin(authorization);
+        TransferFormat transferFormat = TransferFormat.fromParameter(format);
+        StreamingResponseBody body = output -> productTransferService.exportProducts(output, transferFormat);
+        return ResponseEntity.ok()
+                .contentType(transferFormat.mediaTypeWithCharset())
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products." + transferFormat.extension() + "\"")
+                .body(body);
     }
 
     @DeleteMapping("/{id}")
@@ -56,6 +101,5 @@ public class AdminProductsController {
                               @PathVariable String id) {
         clerkAdminVerifier.assertAdmin(authorization);
         productService.deleteProduct(id);
-        realtimeBroadcastService.refreshAll();
     }
 }
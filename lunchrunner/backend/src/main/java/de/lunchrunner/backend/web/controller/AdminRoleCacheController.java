@@ -0,0 +1,39 @@
+package de.lunchrunner.backend.web.controller;
+
+import de.lunchrunner.backend.auth.AdminRoleCache;
+import de.lunchrunner.backend.auth.ClerkAdminVerifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/role-cache")
+public class AdminRoleCacheController {
+
+    private final AdminRoleCache adminRoleCache;
+    private final ClerkAdminVerifier clerkAdminVerifier;
+
+    public AdminRoleCacheController(AdminRoleCache adminRoleCache, ClerkAdminVerifier clerkAdminVerifier) {
+        this.adminRoleCache = adminRoleCache;
+        this.clerkAdminVerifier = clerkAdminVerifier;
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictAll(@RequestHeader(name = "Authorization", required = false) String authorization) {
+        clerkAdminVerifier.assertAdmin(authorization);
+        adminRoleCache.evictAll();
+    }
+
+    @DeleteMapping("/{userId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evict(@RequestHeader(name = "Authorization", required = false) String authorization,
+                      @PathVariable String userId) {
+        clerkAdminVerifier.assertAdmin(authorization);
+        adminRoleCache.evict(userId);
+    }
+}
@@ -1,12 +1,26 @@
 package de.lunchrunner.backend.web.controller;
 
+import de.lunchrunner.backend.service.BoardPayloadCache;
+import de.lunchrunner.backend.service.BoardSequence;
 import de.lunchrunner.backend.service.DeviceOwnershipService;
+import de.lunchrunner.backend.service.EncodedPayload;
+import de.lunchrunner.backend.service.IdempotencyStore;
+import de.lunchrunner.backend.service.ListingETags;
+import de.lunchrunner.backend.service.OrderMutationMetrics;
 import de.lunchrunner.backend.service.OrderService;
-import de.lunchrunner.backend.service.RealtimeBroadcastService;
+import de.lunchrunner.backend.service.PickupList;
+import de.lunchrunner.backend.web.dto.OrderBatchRequest;
+import de.lunchrunner.backend.web.dto.OrderBatchResponse;
+import de.lunchrunner.backend.web.dto.OrderPageResponse;
 import de.lunchrunner.backend.web.dto.OrderRequest;
 import de.lunchrunner.backend.web.dto.OrderResponse;
+import de.lunchrunner.backend.web.dto.PickupLineResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,8 +29,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,47 +44,132 @@ public class OrdersController {
 
     private final OrderService orderService;
     private final DeviceOwnershipService deviceOwnershipService;
-    private final RealtimeBroadcastService realtimeBroadcastService;
+    private final BoardPayloadCache boardPayloadCache;
+    private final BoardSequence boardSequence;
+    private final ListingETags listingETags;
+    private final PickupList pickupList;
+    private final IdempotencyStore idempotencyStore;
+    private final OrderMutationMetrics orderMutationMetrics;
 
     public OrdersController(OrderService orderService,
                             DeviceOwnershipService deviceOwnershipService,
-                            RealtimeBroadcastService realtimeBroadcastService) {
+                            BoardPayloadCache boardPayloadCache,
+                            BoardSequence boardSequence,
+                            ListingETags listingETags,
+                            PickupList pickupList,
+                            IdempotencyStore idempotencyStore,
+                            OrderMutationMetrics orderMutationMetrics) {
         this.orderService = orderService;
         this.deviceOwnershipService = deviceOwnershipService;
-        this.realtimeBroadcastService = realtimeBroadcastService;
+        this.boardPayloadCache = boardPayloadCache;
+        this.boardSequence = boardSequence;
+        this.listingETags = listingETags;
+        this.pickupList = pickupList;
+        this.idempotencyStore = idempotencyStore;
+        this.orderMutationMetrics = orderMutationMetrics;
     }
 
     @GetMapping
-    public List<OrderResponse> listOrders() {
-        return orderService.listOrders();
+    public ResponseEntity<byte[]> listOrders(WebRequest request) {
+        long sequence = boardSequence.current();
+        String etag = listingETags.orders();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(BoardSequence.HEADER_NAME, Long.toString(sequence))
+                    .build();
+        }
+        EncodedPayload payload = boardPayloadCache.orders();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(listingETags.orders(payload.version()))
+                .cacheControl(CacheControl.noCache())
+                .header(BoardSequence.HEADER_NAME, Long.toString(sequence))
+                .body(payload.json());
+    }
+
+    @GetMapping("/pickup-list")
+    public ResponseEntity<List<PickupLineResponse>> pickupList() {
+        long sequence = boardSequence.current();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header(BoardSequence.HEADER_NAME, Long.toString(sequence))
+                .body(pickupList.current());
+    }
+
+    @GetMapping("/history")
+    public OrderPageResponse listHistory(@RequestParam(name = "after", required = false) String after,
+                                         @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return orderService.listHistory(after, limit);
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public OrderResponse createOrder(@RequestHeader(name = DeviceOwnershipService.HEADER_NAME) String deviceHeader,
-                                     @Valid @RequestBody OrderRequest request) {
+    public ResponseEntity<OrderResponse> createOrder(@RequestHeader(name = DeviceOwnershipService.HEADER_NAME) String deviceHeader,
+                                                     @RequestHeader(name = IdempotencyStore.HEADER_NAME, required = false) String idempotencyKey,
+                                                     @Valid @RequestBody OrderRequest request) {
         UUID deviceId = deviceOwnershipService.requireDeviceId(deviceHeader);
-        OrderResponse response = orderService.createOrder(request, deviceId);
-        realtimeBroadcastService.refreshAll();
-        return response;
+        IdempotencyStore.Outcome<OrderResponse> outcome = idempotencyStore.execute(idempotencyKey, "create:" + deviceId, request,
+                () -> orderMutationMetrics.record("create", () -> orderService.createOrder(request, deviceId)));
+        return respond(HttpStatus.CREATED, outcome);
+    }
+
+    @PostMapping("/batch")
+    public OrderBatchResponse createOrders(@RequestHeader(name = DeviceOwnershipService.HEADER_NAME) String deviceHeader,
+                                           @Valid @RequestBody OrderBatchRequest request) {
+        UUID deviceId = deviceOwnershipService.requireDeviceId(deviceHeader);
+        return orderMutationMetrics.record("batch_create", () -> orderService.createOrders(request.getOrders(), deviceId));
     }
 
     @PutMapping("/{id}")
-    public OrderResponse updateOrder(@PathVariable String id,
-                                     @RequestHeader(name = DeviceOwnershipService.HEADER_NAME) String deviceHeader,
-                                     @Valid @RequestBody OrderRequest request) {
+    public ResponseEntity<OrderResponse> updateOrder(@PathVariable String id,
+                                                     @RequestHeader(name = DeviceOwnershipService.HEADER_NAME) String deviceHeader,
+                                                     @RequestHeader(name = IdempotencyStore.HEADER_NAME, required = false) String idempotencyKey,
+                                                     @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                     @Valid @RequestBody OrderRequest request) {
         UUID deviceId = deviceOwnershipService.requireDeviceId(deviceHeader);
-        OrderResponse response = orderService.updateOrder(id, request, deviceId);
-        realtimeBroadcastService.refreshAll();
-        return response;
+        long expectedVersion = parseIfMatch(ifMatch);
+        IdempotencyStore.Outcome<OrderResponse> outcome = idempotencyStore.execute(idempotencyKey, "update:" + deviceId + ":" + id, request,
+                () -> orderMutationMetrics.record("update", () -> orderService.updateOrder(id, request, deviceId, expectedVersion)));
+        return respond(HttpStatus.OK, outcome);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteOrder(@PathVariable String id,
-                            @RequestHeader(name = DeviceOwnershipService.HEADER_NAME) String deviceHeader) {
+                            @RequestHeader(name = DeviceOwnershipService.HEADER_NAME) String deviceHeader,
+                            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         UUID deviceId = deviceOwnershipService.requireDeviceId(deviceHeader);
-        orderService.deleteOrder(id, deviceId);
-        realtimeBroadcastService.refreshAll();
+        long expectedVersion = parseIfMatch(ifMatch);
+        orderMutationMetrics.record("delete", () -> orderService.deleteOrder(id, deviceId, expectedVersion));
+    }
+
+    private ResponseEntity<OrderResponse> respond(HttpStatus status, IdempotencyStore.Outcome<OrderResponse> outcome) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (outcome.response().version() != null) {
+            builder.eTag(Long.toString(outcome.response().version()));
+        }
+        if (outcome.replayed()) {
+            builder.header(IdempotencyStore.REPLAYED_HEADER_NAME, "true");
+        }
+        return builder.body(outcome.response());
+    }
+
+    private long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED, "If-Match with the order's ETag is required");
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match requires a strong ETag");
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must be an order version ETag");
+        }
     }
 }
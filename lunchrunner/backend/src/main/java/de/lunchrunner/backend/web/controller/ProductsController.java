@@ -1,25 +1,49 @@
 package de.lunchrunner.backend.web.controller;
 
-import de.lunchrunner.backend.service.ProductService;
-import de.lunchrunner.backend.web.dto.ProductResponse;
+import de.lunchrunner.backend.service.BoardPayloadCache;
+import de.lunchrunner.backend.service.BoardSequence;
+import de.lunchrunner.backend.service.EncodedPayload;
+import de.lunchrunner.backend.service.ListingETags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductsController {
 
-    private final ProductService productService;
+    private final BoardPayloadCache boardPayloadCache;
+    private final BoardSequence boardSequence;
+    private final ListingETags listingETags;
 
-    public ProductsController(ProductService productService) {
-        this.productService = productService;
+    public ProductsController(BoardPayloadCache boardPayloadCache, BoardSequence boardSequence, ListingETags listingETags) {
+        this.boardPayloadCache = boardPayloadCache;
+        this.boardSequence = boardSequence;
+        this.listingETags = listingETags;
     }
 
     @GetMapping
-    public List<ProductResponse> listProducts() {
-        return productService.getActiveProducts();
+    public ResponseEntity<byte[]> listProducts(WebRequest request) {
+        long sequence = boardSequence.current();
+        String etag = listingETags.activeProducts();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(BoardSequence.HEADER_NAME, Long.toString(sequence))
+                    .build();
+        }
+        EncodedPayload payload = boardPayloadCache.activeProducts();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(listingETags.activeProducts(payload.version()))
+                .cacheControl(CacheControl.noCache())
+                .header(BoardSequence.HEADER_NAME, Long.toString(sequence))
+                .body(payload.json());
     }
 }
@@ -0,0 +1,10 @@
+package de.lunchrunner.backend.web.dto;
+
+import java.util.List;
+
+public record BoardChangedMessage(
+        long sequence,
+        List<BoardDelta> changes,
+        List<PickupLineResponse> pickupLines
+) {
+}
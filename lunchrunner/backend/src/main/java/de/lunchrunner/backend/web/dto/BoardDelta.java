@@ -0,0 +1,25 @@
+package de.lunchrunner.backend.web.dto;
+
+public record BoardDelta(String type, String id, OrderResponse order, ProductResponse product) {
+
+    public static final String ORDER_CREATED = "orderCreated";
+    public static final String ORDER_UPDATED = "orderUpdated";
+    public static final String ORDER_DELETED = "orderDeleted";
+    public static final String PRODUCT_CHANGED = "productChanged";
+
+    public static BoardDelta orderCreated(OrderResponse order) {
+        return new BoardDelta(ORDER_CREATED, order.id(), order, null);
+    }
+
+    public static BoardDelta orderUpdated(OrderResponse order) {
+        return new BoardDelta(ORDER_UPDATED, order.id(), order, null);
+    }
+
+    public static BoardDelta orderDeleted(String orderId) {
+        return new BoardDelta(ORDER_DELETED, orderId, null, null);
+    }
+
+    public static BoardDelta productChanged(String productId, ProductResponse product) {
+        return new BoardDelta(PRODUCT_CHANGED, productId, null, product);
+    }
+}
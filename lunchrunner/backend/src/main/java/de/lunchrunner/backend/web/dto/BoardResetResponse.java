@@ -0,0 +1,6 @@
+package de.lunchrunner.backend.web.dto;
+
+import java.time.OffsetDateTime;
+
+public record BoardResetResponse(OffsetDateTime boardStartedAt) {
+}
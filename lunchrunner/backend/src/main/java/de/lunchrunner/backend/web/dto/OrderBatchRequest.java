@@ -0,0 +1,22 @@
+package de.lunchrunner.backend.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderBatchRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<OrderRequest> orders = new ArrayList<>();
+
+    public List<OrderRequest> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderRequest> orders) {
+        this.orders = orders;
+    }
+}
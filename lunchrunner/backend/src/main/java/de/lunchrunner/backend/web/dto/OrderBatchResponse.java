@@ -0,0 +1,6 @@
+package de.lunchrunner.backend.web.dto;
+
+import java.util.List;
+
+public record OrderBatchResponse(int created, int failed, List<OrderBatchResult> results) {
+}
@@ -0,0 +1,12 @@
+package de.lunchrunner.backend.web.dto;
+
+public record OrderBatchResult(int index, int status, OrderResponse order, String message) {
+
+    public static OrderBatchResult created(int index, OrderResponse order) {
+        return new OrderBatchResult(index, 201, order, null);
+    }
+
+    public static OrderBatchResult failed(int index, int status, String message) {
+        return new OrderBatchResult(index, status, null, message);
+    }
+}
@@ -14,6 +14,7 @@ public record OrderResponse(
         BigDecimal totalPriceGross,
         String currencyCode,
         OffsetDateTime createdAt,
-        OffsetDateTime updatedAt
+        OffsetDateTime updatedAt,
+        Long version
 ) {
 }
@@ -0,0 +1,15 @@
+package de.lunchrunner.backend.web.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record PickupLineResponse(
+        String productId,
+        String optionsHash,
+        String productName,
+        Map<String, Object> selectedOptions,
+        long quantity,
+        BigDecimal totalPriceGross,
+        String currencyCode
+) {
+}
@@ -0,0 +1,4 @@
+package de.lunchrunner.backend.web.dto;
+
+public record ProductImportError(long line, String message) {
+}
@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id ON orders(created_at, id);
+
+CREATE TABLE IF NOT EXISTS board_resets (
+    id BIGSERIAL PRIMARY KEY,
+    reset_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_resets_reset_at ON board_resets(reset_at);
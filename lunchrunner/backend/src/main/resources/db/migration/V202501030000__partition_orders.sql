@@ -0,0 +1,50 @@
+ALTER TABLE orders RENAME TO orders_legacy;
+DROP TRIGGER IF EXISTS trigger_orders_updated ON orders_legacy;
+DROP INDEX IF EXISTS idx_orders_device_id;
+DROP INDEX IF EXISTS idx_orders_created_at_id;
+
+CREATE TABLE orders (
+    id UUID NOT NULL,
+    device_id UUID NOT NULL,
+    customer_name TEXT NOT NULL,
+    items JSONB NOT NULL,
+    total_price_gross NUMERIC(10,2) NOT NULL,
+    currency_code VARCHAR(3) NOT NULL DEFAULT 'EUR',
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), NOW()) AT TIME ZONE 'UTC')::date
+    INTO month_start
+    FROM orders_legacy;
+    last_month := (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '2 months')::date;
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+            'orders_' || to_char(month_start, 'YYYY_MM'),
+            to_char(month_start, 'YYYY-MM-DD') || ' 00:00:00+00',
+            to_char(month_start + INTERVAL '1 month', 'YYYY-MM-DD') || ' 00:00:00+00'
+        );
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO orders (id, device_id, customer_name, items, total_price_gross, currency_code, created_at, updated_at, version)
+SELECT id, device_id, customer_name, items, total_price_gross, currency_code, created_at, updated_at, version
+FROM orders_legacy;
+
+DROP TABLE orders_legacy;
+
+CREATE INDEX IF NOT EXISTS idx_orders_device_id ON orders(device_id);
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id ON orders(created_at, id);
+
+CREATE TRIGGER trigger_orders_updated
+    BEFORE UPDATE ON orders
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
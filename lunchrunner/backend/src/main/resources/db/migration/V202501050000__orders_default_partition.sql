@@ -0,0 +1 @@
+CREATE TABLE IF NOT EXISTS orders_default PARTITION OF orders DEFAULT;
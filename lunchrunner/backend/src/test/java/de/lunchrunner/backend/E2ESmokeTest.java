@@ -1,7 +1,12 @@
 package de.lunchrunner.backend;
 
+import de.lunchrunner.backend.support.OrderRequests;
+import de.lunchrunner.backend.web.dto.OrderBatchRequest;
+import de.lunchrunner.backend.web.dto.OrderBatchResponse;
+import de.lunchrunner.backend.web.dto.OrderBatchResult;
 import de.lunchrunner.backend.web.dto.OrderItemRequest;
 import de.lunchrunner.backend.web.dto.OrderRequest;
+import de.lunchrunner.backend.web.dto.OrderResponse;
 import de.lunchrunner.backend.web.dto.ProductResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -73,4 +78,94 @@ class E2ESmokeTest {
         ResponseEntity<String> ordersResponse = restTemplate.getForEntity("/api/orders", String.class);
         assertThat(ordersResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
+
+    @Test
+    void batchOrderReportsPerOrderResults() {
+        OrderRequest valid = OrderRequests.newOrderRequest(firstProductId(), "Batch Tester");
+        OrderRequest invalid = OrderRequests.newOrderRequest(UUID.randomUUID().toString(), "Batch Tester");
+
+        OrderBatchRequest batchRequest = new OrderBatchRequest();
+        batchRequest.setOrders(List.of(valid, invalid, valid));
+
+        ResponseEntity<OrderBatchResponse> response = restTemplate.postForEntity("/api/orders/batch",
+                new HttpEntity<>(batchRequest, OrderRequests.deviceHeaders()), OrderBatchResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        OrderBatchResponse body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body.created()).isEqualTo(2);
+        assertThat(body.failed()).isEqualTo(1);
+        assertThat(body.results()).extracting(OrderBatchResult::status).containsExactly(201, 404, 201);
+    }
+
+    @Test
+    void retriedCreateWithIdempotencyKeyReturnsStoredOrder() {
+        OrderRequest orderRequest = OrderRequests.newOrderRequest(firstProductId(), "Retry Tester");
+        HttpHeaders headers = OrderRequests.deviceHeaders();
+        headers.add("Idempotency-Key", UUID.randomUUID().toString());
+        HttpEntity<OrderRequest> entity = new HttpEntity<>(orderRequest, headers);
+
+        ResponseEntity<OrderResponse> first = restTemplate.postForEntity("/api/orders", entity, OrderResponse.class);
+        ResponseEntity<OrderResponse> retry = restTemplate.postForEntity("/api/orders", entity, OrderResponse.class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getBody()).isNotNull();
+        assertThat(retry.getBody().id()).isEqualTo(first.getBody().id());
+
+        orderRequest.setCustomerName("Someone Else");
+        ResponseEntity<String> reused = restTemplate.postForEntity("/api/orders", new HttpEntity<>(orderRequest, headers), String.class);
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void conditionalWritesCheckOwnershipAndVersion() {
+        OrderRequest orderRequest = OrderRequests.newOrderRequest(firstProductId(), "Version Tester");
+        HttpHeaders owner = OrderRequests.deviceHeaders();
+        ResponseEntity<OrderResponse> created = restTemplate.postForEntity("/api/orders", new HttpEntity<>(orderRequest, owner), OrderResponse.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(created.getHeaders().getETag()).isEqualTo("\"0\"");
+        String url = "/api/orders/" + created.getBody().id();
+
+        HttpHeaders current = new HttpHeaders();
+        current.putAll(owner);
+        current.setIfMatch(created.getHeaders().getETag());
+        ResponseEntity<OrderResponse> updated = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(orderRequest, current), OrderResponse.class);
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody().version()).isEqualTo(1L);
+
+        ResponseEntity<String> stale = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(orderRequest, current), String.class);
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        ResponseEntity<String> unconditional = restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(owner), String.class);
+        assertThat(unconditional.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED);
+
+        current.setIfMatch(updated.getHeaders().getETag());
+        HttpHeaders stranger = OrderRequests.deviceHeaders();
+        stranger.setIfMatch(updated.getHeaders().getETag());
+        ResponseEntity<String> forbidden = restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(stranger), String.class);
+        assertThat(forbidden.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        OrderRequest unknownProduct = OrderRequests.newOrderRequest(UUID.randomUUID().toString(), "Version Tester");
+        ResponseEntity<String> foreignUpdate = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(unknownProduct, stranger), String.class);
+        assertThat(foreignUpdate.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        HttpHeaders weak = new HttpHeaders();
+        weak.putAll(owner);
+        weak.setIfMatch("W/" + updated.getHeaders().getETag());
+        ResponseEntity<String> weakMatch = restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(weak), String.class);
+        assertThat(weakMatch.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        ResponseEntity<String> deleted = restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(current), String.class);
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        ResponseEntity<String> missing = restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(current), String.class);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private String firstProductId() {
+        ProductResponse[] products = restTemplate.getForObject("/api/products", ProductResponse[].class);
+        assertThat(products).isNotEmpty();
+        return products[0].id();
+    }
 }
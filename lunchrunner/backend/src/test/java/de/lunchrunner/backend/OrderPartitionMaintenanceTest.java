@@ -0,0 +1,139 @@
+package de.lunchrunner.backend;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.service.OrderExportService;
+import de.lunchrunner.backend.service.OrderPartitionMaintenance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.server.ResponseStatusException;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@TestPropertySource(properties = {
+        "lunchrunner.socket-io-enabled=false"
+})
+class OrderPartitionMaintenanceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private OrderPartitionMaintenance maintenance;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private ApplicationProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void restoreDefaults() {
+        properties.setOrderPartitionsAhead(2);
+        properties.setOrderRetentionMonths(0);
+        properties.setOrderPartitionExpiry(ApplicationProperties.PartitionExpiry.DETACH);
+    }
+
+    @Test
+    void createsUpcomingPartitions() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        properties.setOrderPartitionsAhead(4);
+
+        maintenance.maintain();
+
+        assertThat(attachedPartitions()).contains(
+                "orders_default",
+                partitionName(currentMonth),
+                partitionName(currentMonth.plusMonths(3)),
+                partitionName(currentMonth.plusMonths(4)));
+    }
+
+    @Test
+    void ordersWithoutPartitionFallBackToDefaultAndMoveWhenItIsCreated() {
+        YearMonth month = YearMonth.now(ZoneOffset.UTC).plusMonths(9);
+        UUID orderId = insertOrder(month.atDay(15).atStartOfDay().atOffset(ZoneOffset.UTC));
+        assertThat(partitionOf(orderId)).isEqualTo("orders_default");
+
+        properties.setOrderPartitionsAhead(9);
+        maintenance.maintain();
+
+        assertThat(partitionOf(orderId)).isEqualTo(partitionName(month));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders_default", Integer.class)).isZero();
+    }
+
+    @Test
+    void keepsOldPartitionsUnlessRetentionIsEnabled() {
+        YearMonth month = YearMonth.now(ZoneOffset.UTC).minusMonths(30);
+        jdbcTemplate.execute("CREATE TABLE " + partitionName(month) + " PARTITION OF orders FOR VALUES FROM ('"
+                + month.atDay(1) + " 00:00:00+00') TO ('" + month.plusMonths(1).atDay(1) + " 00:00:00+00')");
+        UUID orderId = insertOrder(month.atDay(10).atStartOfDay().atOffset(ZoneOffset.UTC));
+
+        maintenance.maintain();
+        assertThat(partitionOf(orderId)).isEqualTo(partitionName(month));
+
+        properties.setOrderRetentionMonths(12);
+        maintenance.maintain();
+
+        assertThat(attachedPartitions()).doesNotContain(partitionName(month));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders WHERE id = ?", Integer.class, orderId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders_archive_" + month.format(DateTimeFormatter.ofPattern("yyyy_MM"))
+                + " WHERE id = ?", Integer.class, orderId)).isEqualTo(1);
+        assertThatThrownBy(() -> orderExportService.resolveRange(month.atDay(1).toString(), null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    private UUID insertOrder(OffsetDateTime createdAt) {
+        UUID orderId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO orders (id, device_id, customer_name, items, total_price_gross, currency_code, created_at, updated_at) "
+                        + "VALUES (?, ?, 'Partition Tester', '[]'::jsonb, 0, 'EUR', ?, ?)",
+                orderId, UUID.randomUUID(), createdAt, createdAt);
+        return orderId;
+    }
+
+    private String partitionOf(UUID orderId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM orders WHERE id = ?", String.class, orderId);
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'orders'::regclass",
+                String.class);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "orders_" + month.format(DateTimeFormatter.ofPattern("yyyy_MM"));
+    }
+}
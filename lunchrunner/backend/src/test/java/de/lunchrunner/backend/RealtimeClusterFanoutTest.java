@@ -0,0 +1,116 @@
+package de.lunchrunner.backend;
+
+import de.lunchrunner.backend.service.BoardPayloadCache;
+import de.lunchrunner.backend.service.BoardScope;
+import de.lunchrunner.backend.service.OrderService;
+import de.lunchrunner.backend.service.PickupList;
+import de.lunchrunner.backend.service.ProductService;
+import de.lunchrunner.backend.support.OrderRequests;
+import de.lunchrunner.backend.web.dto.OrderRequest;
+import de.lunchrunner.backend.web.dto.OrderResponse;
+import de.lunchrunner.backend.web.dto.ProductRequest;
+import de.lunchrunner.backend.web.dto.ProductResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@Testcontainers
+class RealtimeClusterFanoutTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private ConfigurableApplicationContext first;
+    private ConfigurableApplicationContext second;
+
+    @BeforeEach
+    void startInstances() throws InterruptedException {
+        first = startInstance();
+        second = startInstance();
+        JdbcTemplate jdbcTemplate = first.getBean(JdbcTemplate.class);
+        await("both instances to listen", () -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE application_name = 'lunchrunner-realtime-listener' AND query LIKE 'LISTEN%'",
+                Integer.class) == 2);
+    }
+
+    @AfterEach
+    void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    @Test
+    void changesOnOneInstanceReachTheOther() throws InterruptedException {
+        ProductResponse product = first.getBean(ProductService.class).getActiveProducts().get(0);
+
+        OrderRequest orderRequest = OrderRequests.newOrderRequest(product.id(), "Cluster Tester");
+        OrderResponse order = first.getBean(OrderService.class).createOrder(orderRequest, UUID.randomUUID());
+
+        BoardPayloadCache remoteBoard = second.getBean(BoardPayloadCache.class);
+        await("order on second instance", () -> json(remoteBoard.orders().json()).contains(order.id()));
+        assertThat(second.getBean(PickupList.class).current()).isNotEmpty();
+
+        ProductRequest rename = new ProductRequest();
+        rename.setId(product.id());
+        rename.setProductName("Cluster Special");
+        rename.setProductDescription(product.productDescription());
+        rename.setProductPriceGross(product.productPriceGross());
+        rename.setCurrencyCode(product.currencyCode());
+        rename.setProductCategory(product.productCategory());
+        rename.setProductActive(true);
+        rename.setOptionsDefinition(product.optionsDefinition());
+        first.getBean(ProductService.class).saveProduct(rename);
+        await("renamed product on second instance", () -> json(remoteBoard.activeProducts().json()).contains("Cluster Special"));
+
+        OffsetDateTime resetAt = first.getBean(BoardScope.class).reset();
+        await("board reset on second instance", () -> !second.getBean(BoardScope.class).currentStart().isBefore(resetAt));
+        await("empty board on second instance", () -> !json(remoteBoard.orders().json()).contains(order.id()));
+    }
+
+    private ConfigurableApplicationContext startInstance() {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "lunchrunner.socket-io-enabled=false",
+                        "lunchrunner.realtime-fanout=postgres"
+                )
+                .run();
+    }
+
+    private static String json(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+
+    private static void await(String description, BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + description);
+            }
+            Thread.sleep(50);
+        }
+    }
+}
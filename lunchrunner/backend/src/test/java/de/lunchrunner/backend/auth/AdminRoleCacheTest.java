@@ -0,0 +1,157 @@
+package de.lunchrunner.backend.auth;
+
+import de.lunchrunner.backend.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdminRoleCacheTest {
+
+    private MutableClock clock;
+    private AdminRoleCache cache;
+    private AtomicInteger lookups;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        cache = new AdminRoleCache(Duration.ofMinutes(5), Duration.ofSeconds(30), 2, clock);
+        lookups = new AtomicInteger();
+    }
+
+    @Test
+    void cachesPositiveDecisionsUntilTtlExpires() {
+        assertTrue(cache.isAdmin("user_1", this::admin));
+        clock.advance(Duration.ofMinutes(4));
+        assertTrue(cache.isAdmin("user_1", this::admin));
+        assertEquals(1, lookups.get());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(cache.isAdmin("user_1", this::admin));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void cachesNegativeDecisionsBriefly() {
+        assertFalse(cache.isAdmin("user_1", this::notAdmin));
+        clock.advance(Duration.ofSeconds(20));
+        assertFalse(cache.isAdmin("user_1", this::notAdmin));
+        assertEquals(1, lookups.get());
+
+        clock.advance(Duration.ofSeconds(20));
+        assertTrue(cache.isAdmin("user_1", this::admin));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void evictionForcesLookup() {
+        cache.isAdmin("user_1", this::admin);
+        cache.evict("user_1");
+        assertFalse(cache.isAdmin("user_1", this::notAdmin));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void staysWithinMaximumSize() {
+        cache.isAdmin("user_1", this::admin);
+        cache.isAdmin("user_2", this::admin);
+        cache.isAdmin("user_3", this::admin);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        assertThrows(IllegalStateException.class, () -> cache.isAdmin("user_1", userId -> {
+            throw new IllegalStateException("Clerk unavailable");
+        }));
+        assertTrue(cache.isAdmin("user_1", this::admin));
+    }
+
+    @Test
+    void sharesOneLookupBetweenConcurrentCallers() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Boolean> first = executor.submit(() -> cache.isAdmin("user_1", userId -> {
+                lookups.incrementAndGet();
+                lookupStarted.countDown();
+                await(releaseLookup);
+                return true;
+            }));
+            assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+            Future<Boolean> second = executor.submit(() -> cache.isAdmin("user_1", this::admin));
+            Future<Boolean> third = executor.submit(() -> cache.isAdmin("user_1", this::admin));
+            Thread.sleep(50);
+            releaseLookup.countDown();
+
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+            assertTrue(second.get(5, TimeUnit.SECONDS));
+            assertTrue(third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, lookups.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void boundsTheWaitForSlowLookupsAndCachesTheLateAnswer() {
+        CompletableFuture<Boolean> lookup = new CompletableFuture<>();
+
+        long started = System.nanoTime();
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> cache.isAdmin("user_1", userId -> lookup, Duration.ofMillis(50)));
+        Duration blocked = Duration.ofNanos(System.nanoTime() - started);
+
+        assertTrue(ex.getCause() instanceof TimeoutException, "unexpected " + ex.getCause());
+        assertTrue(blocked.compareTo(Duration.ofMillis(50)) >= 0, "request thread returned after " + blocked);
+        assertFalse(lookup.isDone());
+        assertEquals(0, cache.size());
+
+        lookup.complete(true);
+        assertTrue(cache.isAdmin("user_1", this::admin));
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    void doesNotCacheFailedAsyncLookups() {
+        CompletionException ex = assertThrows(CompletionException.class, () -> cache.isAdmin("user_1",
+                userId -> CompletableFuture.failedFuture(new IllegalStateException("Clerk unavailable")), Duration.ofSeconds(1)));
+
+        assertTrue(ex.getCause() instanceof IllegalStateException, "unexpected " + ex.getCause());
+        assertEquals(0, cache.size());
+    }
+
+    private boolean admin(String userId) {
+        lookups.incrementAndGet();
+        return true;
+    }
+
+    private boolean notAdmin(String userId) {
+        lookups.incrementAndGet();
+        return false;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
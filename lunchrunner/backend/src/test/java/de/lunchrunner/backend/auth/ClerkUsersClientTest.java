@@ -0,0 +1,205 @@
+package de.lunchrunner.backend.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import de.lunchrunner.backend.config.ExecutionThreads;
+import de.lunchrunner.backend.support.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClerkUsersClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final List<HttpClient> httpClients = new ArrayList<>();
+    private final List<ExecutorService> httpExecutors = new ArrayList<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile CountDownLatch upstreamGate = new CountDownLatch(0);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/users/", exchange -> {
+            requests.incrementAndGet();
+            try {
+                upstreamGate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"public_metadata\":{\"role\":\"admin\"}}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstreamGate.countDown();
+        httpClients.forEach(HttpClient::shutdownNow);
+        httpExecutors.forEach(ExecutorService::shutdownNow);
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void returnsUserProfile() {
+        ClerkUsersClient client = client(Duration.ofSeconds(2), 4, 3, Clock.systemUTC());
+
+        Optional<JsonNode> user = client.fetchUser("user_1").join();
+
+        assertEquals("admin", user.orElseThrow().path("public_metadata").path("role").asText());
+        assertEquals(4, client.availablePermits());
+    }
+
+    @Test
+    void treatsMissingUserAsEmpty() {
+        status.set(404);
+        ClerkUsersClient client = client(Duration.ofSeconds(2), 4, 3, Clock.systemUTC());
+
+        assertFalse(client.fetchUser("user_1").join().isPresent());
+        assertEquals(CircuitBreaker.State.CLOSED, client.circuitState());
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedErrorsAndFailsFast() {
+        status.set(500);
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        ClerkUsersClient client = client(Duration.ofSeconds(2), 4, 3, clock);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertFalse(unavailable(client.fetchUser("user_1")).rejected());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        CompletableFuture<Optional<JsonNode>> rejected = client.fetchUser("user_1");
+        assertTrue(rejected.isDone());
+        assertTrue(unavailable(rejected).rejected());
+        assertEquals(3, requests.get());
+        assertEquals(4, client.availablePermits());
+
+        status.set(200);
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(client.fetchUser("user_1").join().isPresent());
+        assertEquals(CircuitBreaker.State.CLOSED, client.circuitState());
+    }
+
+    @Test
+    void reopensCircuitWhenTrialRequestFails() {
+        status.set(503);
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        ClerkUsersClient client = client(Duration.ofSeconds(2), 4, 1, clock);
+
+        unavailable(client.fetchUser("user_1"));
+        clock.advance(Duration.ofSeconds(31));
+        assertFalse(unavailable(client.fetchUser("user_1")).rejected());
+
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+        assertTrue(unavailable(client.fetchUser("user_1")).rejected());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void timesOutSlowResponsesAndCountsThemAsFailures() {
+        upstreamGate = new CountDownLatch(1);
+        ClerkUsersClient client = client(Duration.ofMillis(200), 4, 1, Clock.systemUTC());
+
+        ClerkUnavailableException ex = unavailable(client.fetchUser("user_1"));
+
+        assertFalse(ex.rejected());
+        assertTrue(ex.getCause() instanceof HttpTimeoutException || ex.getCause() instanceof TimeoutException,
+                "unexpected " + ex.getCause());
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+        assertEquals(4, client.availablePermits());
+    }
+
+    @Test
+    void rejectsRequestsBeyondConcurrencyLimit() {
+        upstreamGate = new CountDownLatch(1);
+        ClerkUsersClient client = client(Duration.ofSeconds(5), 2, 3, Clock.systemUTC());
+
+        CompletableFuture<Optional<JsonNode>> first = client.fetchUser("user_1");
+        CompletableFuture<Optional<JsonNode>> second = client.fetchUser("user_2");
+        assertEquals(0, client.availablePermits());
+        assertTrue(unavailable(client.fetchUser("user_3")).rejected());
+        assertEquals(CircuitBreaker.State.CLOSED, client.circuitState());
+
+        upstreamGate.countDown();
+        assertTrue(first.join().isPresent());
+        assertTrue(second.join().isPresent());
+        assertEquals(2, client.availablePermits());
+        assertTrue(client.fetchUser("user_4").join().isPresent());
+    }
+
+    @Test
+    void returnsToCallerWhileUpstreamHangs() {
+        upstreamGate = new CountDownLatch(1);
+        ClerkUsersClient client = client(Duration.ofSeconds(5), 500, 1_000, Clock.systemUTC());
+
+        List<CompletableFuture<Optional<JsonNode>>> pending = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            pending.add(client.fetchUser("user_" + index));
+        }
+
+        assertTrue(pending.stream().noneMatch(CompletableFuture::isDone));
+        assertEquals(300, client.availablePermits());
+
+        upstreamGate.countDown();
+        for (CompletableFuture<Optional<JsonNode>> future : pending) {
+            assertTrue(future.join().isPresent());
+        }
+        assertEquals(500, client.availablePermits());
+        assertEquals(CircuitBreaker.State.CLOSED, client.circuitState());
+    }
+
+    private ClerkUsersClient client(Duration timeout, int maxConcurrentRequests, int failureThreshold, Clock clock) {
+        ExecutorService executor = ClerkUsersClient.httpExecutor(new ExecutionThreads(new StandardEnvironment()));
+        httpExecutors.add(executor);
+        HttpClient httpClient = ClerkUsersClient.buildHttpClient(timeout, executor);
+        httpClients.add(httpClient);
+        return new ClerkUsersClient("http://127.0.0.1:" + server.getAddress().getPort(), "sk_test", objectMapper,
+                httpClient, timeout, maxConcurrentRequests,
+                new CircuitBreaker(failureThreshold, Duration.ofSeconds(30), clock));
+    }
+
+    private ClerkUnavailableException unavailable(CompletableFuture<Optional<JsonNode>> future) {
+        CompletionException ex = assertThrows(CompletionException.class, future::join);
+        assertTrue(ex.getCause() instanceof ClerkUnavailableException, "unexpected " + ex.getCause());
+        return (ClerkUnavailableException) ex.getCause();
+    }
+}
@@ -0,0 +1,127 @@
+package de.lunchrunner.backend.auth;
+
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwksManagerTest {
+
+    private HttpServer server;
+    private ScheduledExecutorService scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private JwksManager jwksManager;
+    private final AtomicReference<String> jwksBody = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            requests.incrementAndGet();
+            byte[] body = jwksBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        URI jwksUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+        jwksManager = new JwksManager(jwksUri, HttpClient.newHttpClient(), Duration.ofMinutes(5), Duration.ofSeconds(2),
+                Duration.ZERO, meterRegistry, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksManager.stop();
+        server.stop(0);
+    }
+
+    @Test
+    void loadsKeysFromIssuer() throws Exception {
+        serve(generateKey("key-1"));
+
+        assertTrue(jwksManager.refresh());
+        assertEquals(1, jwksManager.get(selectorFor("key-1"), null).size());
+        assertEquals(1, meterRegistry.get("lunchrunner.clerk.jwks.refresh").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void keepsLastKnownGoodKeysWhenIssuerFails() throws Exception {
+        serve(generateKey("key-1"));
+        jwksManager.refresh();
+
+        status.set(503);
+        assertFalse(jwksManager.refresh());
+        assertEquals(1, jwksManager.get(selectorFor("key-1"), null).size());
+        assertEquals(1, meterRegistry.get("lunchrunner.clerk.jwks.refresh").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void refreshesOnDemandWhenKeyIdIsUnknown() throws Exception {
+        serve(generateKey("key-1"));
+        jwksManager.refresh();
+
+        serve(generateKey("key-2"));
+        assertEquals(1, jwksManager.get(selectorFor("key-2"), null).size());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void backgroundRefreshKeepsRunningAfterUncheckedFailures() throws Exception {
+        ScheduledExecutorService failingScheduler = Executors.newSingleThreadScheduledExecutor();
+        JwksManager failing = new JwksManager(URI.create("ftp://127.0.0.1/.well-known/jwks.json"), HttpClient.newHttpClient(),
+                Duration.ofMillis(10), Duration.ofSeconds(2), Duration.ZERO, meterRegistry, failingScheduler);
+        try {
+            failing.start();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (failureCount() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(failureCount() >= 3);
+        } finally {
+            failing.stop();
+        }
+    }
+
+    private long failureCount() {
+        return meterRegistry.get("lunchrunner.clerk.jwks.refresh").tag("outcome", "failure").timer().count();
+    }
+
+    private RSAKey generateKey(String keyId) throws Exception {
+        return new RSAKeyGenerator(2048).keyID(keyId).generate();
+    }
+
+    private void serve(RSAKey key) {
+        jwksBody.set(new JWKSet(key.toPublicJWK()).toString());
+    }
+
+    private JWKSelector selectorFor(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+}
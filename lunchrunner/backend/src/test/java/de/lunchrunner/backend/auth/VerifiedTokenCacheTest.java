@@ -0,0 +1,62 @@
+package de.lunchrunner.backend.auth;
+
+import de.lunchrunner.backend.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private MutableClock clock;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        cache = new VerifiedTokenCache(2, clock);
+    }
+
+    @Test
+    void returnsVerifiedTokenUntilExpiry() {
+        VerifiedToken verified = token(NOW.plusSeconds(60));
+        cache.put("token-a", verified);
+
+        assertSame(verified, cache.get("token-a"));
+        assertNull(cache.get("token-b"));
+
+        clock.advance(Duration.ofSeconds(60));
+        assertNull(cache.get("token-a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void skipsTokensWithoutExpiry() {
+        cache.put("token-a", token(null));
+        assertNull(cache.get("token-a"));
+    }
+
+    @Test
+    void makesRoomByDroppingExpiredEntries() {
+        cache.put("token-a", token(NOW.plusSeconds(10)));
+        cache.put("token-b", token(NOW.plusSeconds(60)));
+        cache.put("token-c", token(NOW.plusSeconds(60)));
+        assertNull(cache.get("token-c"));
+
+        clock.advance(Duration.ofSeconds(30));
+        cache.put("token-c", token(NOW.plusSeconds(90)));
+        assertEquals(2, cache.size());
+        assertNull(cache.get("token-a"));
+    }
+
+    private VerifiedToken token(Instant expiresAt) {
+        return new VerifiedToken(new ClerkSession("user_1", "sess_1", "admin@example.com"), true, expiresAt);
+    }
+}
@@ -0,0 +1,83 @@
+package de.lunchrunner.backend.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+final class LoadReport {
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentSkipListMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointStats()).record(latencyNanos, success);
+    }
+
+    long requests() {
+        return endpoints.values().stream().mapToLong(EndpointStats::count).sum();
+    }
+
+    long failures() {
+        return endpoints.values().stream().mapToLong(EndpointStats::failures).sum();
+    }
+
+    String format(String setup, long seed, Duration elapsed, long statements) {
+        double seconds = elapsed.toMillis() / 1000.0;
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Load test (%s, seed %d, %.1fs)%n", setup, seed, seconds));
+        builder.append(String.format("%-32s %8s %8s %9s %9s %9s %9s%n", "endpoint", "requests", "failed", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        endpoints.forEach((endpoint, stats) -> {
+            long[] latencies = stats.sortedLatencies();
+            builder.append(String.format("%-32s %8d %8d %9.1f %9.2f %9.2f %9.2f%n",
+                    endpoint,
+                    latencies.length,
+                    stats.failures(),
+                    latencies.length / seconds,
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.95),
+                    percentile(latencies, 0.99)));
+        });
+        long requests = requests();
+        builder.append(String.format("total %d requests, %.1f req/s, %d failed%n", requests, requests / seconds, failures()));
+        builder.append(String.format("database: %d statements, %.2f statements per request%n",
+                statements, requests == 0 ? 0.0 : (double) statements / requests));
+        return builder.toString();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    private static final class EndpointStats {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private long failures;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            latencies.add(latencyNanos);
+            if (!success) {
+                failures++;
+            }
+        }
+
+        synchronized long count() {
+            return latencies.size();
+        }
+
+        synchronized long failures() {
+            return failures;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
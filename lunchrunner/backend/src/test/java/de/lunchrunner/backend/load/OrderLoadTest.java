@@ -0,0 +1,270 @@
+package de.lunchrunner.backend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.model.options.OptionGroupDefinition;
+import de.lunchrunner.backend.model.options.OptionValueDefinition;
+import de.lunchrunner.backend.web.dto.OrderItemRequest;
+import de.lunchrunner.backend.web.dto.OrderRequest;
+import de.lunchrunner.backend.web.dto.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lunch-peak load test. Skipped unless {@code -Dloadtest=true}; see README for the tuning properties.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@TestPropertySource(properties = {
+        "lunchrunner.socket-io-enabled=false"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class OrderLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderLoadTest.class);
+    private static final long SEED = Long.getLong("loadtest.seed", 20250101L);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private static final int DEVICES = Integer.getInteger("loadtest.devices", 60);
+    private static final int POLLERS = Integer.getInteger("loadtest.pollers", 40);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ApplicationProperties properties;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final LoadReport report = new LoadReport();
+    private List<ProductResponse> products;
+
+    @Test
+    void lunchPeak() throws Exception {
+        HttpResponse<String> catalog = httpClient.send(request("/api/products").GET().build(), HttpResponse.BodyHandlers.ofString());
+        products = List.of(objectMapper.readValue(catalog.body(), ProductResponse[].class));
+        assertThat(products).isNotEmpty();
+
+        Counter statements = meterRegistry.get("lunchrunner.db.statements").counter();
+        double statementsBefore = statements.count();
+        long startedAt = System.nanoTime();
+        List<Future<Void>> runs = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int device = 0; device < DEVICES; device++) {
+                int index = device;
+                runs.add(clients.submit(() -> runDevice(index)));
+            }
+            for (int poller = 0; poller < POLLERS; poller++) {
+                int index = poller;
+                runs.add(clients.submit(() -> runPoller(index)));
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        for (Future<Void> run : runs) {
+            run.get();
+        }
+
+        String setup = (Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform")
+                + " threads, pool of " + properties.getDatabasePoolMaxSize();
+        LOGGER.info("Load test report\n{}", report.format(setup, SEED, elapsed, (long) (statements.count() - statementsBefore)));
+        assertThat(report.requests()).isPositive();
+        assertThat(report.failures()).isZero();
+    }
+
+    private Void runDevice(int index) throws Exception {
+        Random random = new Random(SEED * 31 + index);
+        UUID deviceId = new UUID(SEED, index);
+        List<String> orderIds = new ArrayList<>();
+        Map<String, String> etags = new HashMap<>();
+        ThinkTime thinkTime = new ThinkTime(random);
+        while (thinkTime.pause()) {
+            int roll = random.nextInt(10);
+            if (orderIds.isEmpty() || roll < 4) {
+                HttpResponse<String> response = send("POST /api/orders", request("/api/orders")
+                        .header("x-device-id", deviceId.toString())
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(randomOrder(random, index))))
+                        .build(), 201);
+                if (response.statusCode() == 201) {
+                    JsonNode created = objectMapper.readTree(response.body());
+                    String orderId = created.path("id").asText();
+                    orderIds.add(orderId);
+                    etags.put(orderId, response.headers().firstValue("ETag").orElseThrow());
+                }
+            } else if (roll < 8) {
+                String orderId = orderIds.get(random.nextInt(orderIds.size()));
+                HttpResponse<String> response = send("PUT /api/orders/{id}", request("/api/orders/" + orderId)
+                        .header("x-device-id", deviceId.toString())
+                        .header("Content-Type", "application/json")
+                        .header("If-Match", etags.get(orderId))
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(randomOrder(random, index))))
+                        .build(), 200);
+                response.headers().firstValue("ETag").ifPresent(etag -> etags.put(orderId, etag));
+            } else {
+                String orderId = orderIds.remove(random.nextInt(orderIds.size()));
+                send("DELETE /api/orders/{id}", request("/api/orders/" + orderId)
+                        .header("x-device-id", deviceId.toString())
+                        .header("If-Match", etags.remove(orderId))
+                        .DELETE()
+                        .build(), 204);
+            }
+        }
+        return null;
+    }
+
+    private Void runPoller(int index) throws Exception {
+        Random random = new Random(SEED * 17 + index);
+        String etag = null;
+        ThinkTime thinkTime = new ThinkTime(random);
+        while (thinkTime.pause()) {
+            if (random.nextInt(4) == 0) {
+                send("GET /api/orders/pickup-list", request("/api/orders/pickup-list").GET().build(), 200);
+                continue;
+            }
+            HttpRequest.Builder builder = request("/api/orders").GET();
+            if (etag != null) {
+                builder.header("If-None-Match", etag);
+            }
+            HttpResponse<String> response = send("GET /api/orders", builder.build(), 200, 304);
+            etag = response.headers().firstValue("ETag").orElse(etag);
+        }
+        return null;
+    }
+
+    private OrderRequest randomOrder(Random random, int deviceIndex) {
+        List<OrderItemRequest> items = new ArrayList<>();
+        int itemCount = 1 + random.nextInt(3);
+        for (int itemIndex = 0; itemIndex < itemCount; itemIndex++) {
+            ProductResponse product = products.get(random.nextInt(products.size()));
+            OrderItemRequest item = new OrderItemRequest();
+            item.setProductId(product.id());
+            item.setQuantity(1 + random.nextInt(2));
+            item.setSelectedOptions(randomSelection(random, product));
+            items.add(item);
+        }
+        OrderRequest request = new OrderRequest();
+        request.setCustomerName("Device " + deviceIndex);
+        request.setItems(items);
+        return request;
+    }
+
+    private Map<String, Object> randomSelection(Random random, ProductResponse product) {
+        Map<String, Object> selection = new HashMap<>();
+        if (product.optionsDefinition() == null) {
+            return selection;
+        }
+        for (OptionGroupDefinition group : product.optionsDefinition().getGroups()) {
+            List<String> labels = group.getValues().stream().map(OptionValueDefinition::getLabel).toList();
+            if (labels.isEmpty() || random.nextBoolean()) {
+                continue;
+            }
+            if (group.getType() == OptionGroupDefinition.GroupType.single) {
+                selection.put(group.getId(), labels.get(random.nextInt(labels.size())));
+            } else {
+                selection.put(group.getId(), labels.subList(0, 1 + random.nextInt(labels.size())));
+            }
+        }
+        return selection;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request, int... expectedStatuses) throws InterruptedException {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = Arrays.stream(expectedStatuses).anyMatch(status -> status == response.statusCode());
+            report.record(endpoint, System.nanoTime() - started, success);
+            return response;
+        } catch (IOException ex) {
+            report.record(endpoint, System.nanoTime() - started, false);
+            throw new IllegalStateException(endpoint + " failed", ex);
+        }
+    }
+
+    /**
+     * Exponentially distributed think times whose mean follows a noon burst: quiet for the first fifth of the run, ten
+     * times the traffic for the middle half, then a slower tail. Progress is measured on the scheduled think times, not
+     * the wall clock, so a seed always yields the same number of actions however fast the server answers.
+     */
+    private static final class ThinkTime {
+
+        private final Random random;
+        private long scheduledNanos;
+
+        private ThinkTime(Random random) {
+            this.random = random;
+        }
+
+        boolean pause() throws InterruptedException {
+            double progress = (double) scheduledNanos / DURATION.toNanos();
+            long meanMillis = progress < 0.2 ? 2_000 : progress < 0.7 ? 200 : 1_000;
+            long thinkNanos = (long) (-Math.log(1.0 - random.nextDouble()) * meanMillis * 1_000_000);
+            scheduledNanos += thinkNanos;
+            if (scheduledNanos >= DURATION.toNanos()) {
+                return false;
+            }
+            Thread.sleep(Duration.ofNanos(thinkNanos));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package de.lunchrunner.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRoundTripTest {
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("id,name\r\n1,\"Curry, \"\"hot\"\"\nwith rice\"\r\n2,Soup\n"));
+
+        assertEquals(List.of("id", "name"), reader.readRecord());
+        assertEquals(List.of("1", "Curry, \"hot\"\nwith rice"), reader.readRecord());
+        assertEquals(2, reader.recordLine());
+        assertEquals(List.of("2", "Soup"), reader.readRecord());
+        assertEquals(4, reader.recordLine());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void writtenRecordsReadBackUnchanged() throws IOException {
+        List<String> record = List.of("a", "b,c", "{\"groups\":[]}", "", "line\nbreak");
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRecord(record);
+
+        assertEquals(record, new CsvReader(new StringReader(output.toString())).readRecord());
+    }
+
+    @Test
+    void neutralisesFormulaPrefixesAndReadsThemBack() throws IOException {
+        List<String> record = List.of("=SUM(A1:A2)", "+1", "-2", "@cmd", "'=kept", "'plain", "Soup");
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRecord(record);
+
+        assertEquals("'=SUM(A1:A2),'+1,'-2,'@cmd,''=kept,'plain,Soup\r\n", output.toString());
+        assertEquals(record, new CsvReader(new StringReader(output.toString())).readRecord());
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,field\n"));
+
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
@@ -0,0 +1,186 @@
+package de.lunchrunner.backend.service;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.model.options.CompiledOptions;
+import de.lunchrunner.backend.model.options.OptionGroupDefinition;
+import de.lunchrunner.backend.model.options.OptionValueDefinition;
+import de.lunchrunner.backend.model.options.OptionsDefinition;
+import de.lunchrunner.backend.model.order.OrderItemSnapshot;
+import de.lunchrunner.backend.web.dto.OrderItemRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixedPointPricingParityTest {
+
+    private PriceCalculationService decimalEngine;
+    private PriceCalculationService fixedPointEngine;
+
+    @BeforeEach
+    void setUp() {
+        OptionsValidationService validationService = new OptionsValidationService();
+        decimalEngine = new PriceCalculationService(validationService, new ApplicationProperties(), new SimpleMeterRegistry());
+        ApplicationProperties fixedPointProperties = new ApplicationProperties();
+        fixedPointProperties.setPricingMode(ApplicationProperties.PricingMode.FIXED_POINT);
+        fixedPointEngine = new PriceCalculationService(validationService, fixedPointProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void matchesDecimalEngineForRandomOrders() {
+        Random random = new Random(20250101L);
+        for (int round = 0; round < 200; round++) {
+            List<CatalogProduct> products = randomCatalog(random, 2);
+            CatalogSnapshot catalog = CatalogSnapshot.of(round, products);
+            List<OrderItemRequest> items = randomOrder(random, products);
+            assertSameResult(decimalEngine.calculate(catalog, items, "EUR"), fixedPointEngine.calculate(catalog, items, "EUR"));
+        }
+    }
+
+    @Test
+    void fallsBackToDecimalForSubCentPriceDeltas() {
+        Random random = new Random(42L);
+        for (int round = 0; round < 50; round++) {
+            List<CatalogProduct> products = randomCatalog(random, 3);
+            CatalogSnapshot catalog = CatalogSnapshot.of(round, products);
+            List<OrderItemRequest> items = randomOrder(random, products);
+            assertSameResult(decimalEngine.calculate(catalog, items, "EUR"), fixedPointEngine.calculate(catalog, items, "EUR"));
+        }
+    }
+
+    @Test
+    void marksSubCentProductsAsUnsupported() {
+        CatalogProduct product = product(new BigDecimal("2.50"), List.of(
+                new OptionValueDefinition("Half", new BigDecimal("0.125"))
+        ));
+        assertFalse(product.fixedPointSupported());
+    }
+
+    @Test
+    void pricesOrderWithoutOptions() {
+        CatalogProduct product = product(new BigDecimal("3.10"), List.of());
+        OrderItemRequest item = item(product, 3, null);
+        CatalogSnapshot catalog = CatalogSnapshot.of(1, List.of(product));
+
+        OrderCalculationResult result = fixedPointEngine.calculate(catalog, List.of(item), "EUR");
+        assertEquals(new BigDecimal("9.30"), result.totalPriceGross());
+        assertEquals(new BigDecimal("0.00"), result.items().get(0).getOptionsPriceTotalSnapshot());
+        assertSameResult(decimalEngine.calculate(catalog, List.of(item), "EUR"), result);
+    }
+
+    @Test
+    void rejectsTotalsThatOverflow() {
+        CatalogProduct product = product(new BigDecimal("99999999.99"), List.of());
+        OrderItemRequest item = item(product, Integer.MAX_VALUE, null);
+        CatalogSnapshot catalog = CatalogSnapshot.of(1, List.of(product));
+
+        assertThrows(ResponseStatusException.class, () -> fixedPointEngine.calculate(catalog, List.of(item, item, item, item, item), "EUR"));
+    }
+
+    @Test
+    void rejectsInvalidOptionLikeDecimalEngine() {
+        CatalogProduct product = product(new BigDecimal("6.50"), List.of(
+                new OptionValueDefinition("BBQ", new BigDecimal("0.20"))
+        ));
+        OrderItemRequest item = item(product, 1, Map.of("group", "Mustard"));
+        CatalogSnapshot catalog = CatalogSnapshot.of(1, List.of(product));
+
+        assertThrows(IllegalArgumentException.class, () -> fixedPointEngine.calculate(catalog, List.of(item), "EUR"));
+    }
+
+    private void assertSameResult(OrderCalculationResult expected, OrderCalculationResult actual) {
+        assertEquals(expected.totalPriceGross(), actual.totalPriceGross());
+        assertEquals(expected.currencyCode(), actual.currencyCode());
+        assertEquals(expected.items().size(), actual.items().size());
+        for (int index = 0; index < expected.items().size(); index++) {
+            OrderItemSnapshot expectedItem = expected.items().get(index);
+            OrderItemSnapshot actualItem = actual.items().get(index);
+            assertEquals(expectedItem.getProductId(), actualItem.getProductId());
+            assertEquals(expectedItem.getQuantity(), actualItem.getQuantity());
+            assertEquals(expectedItem.getProductBasePriceSnapshot(), actualItem.getProductBasePriceSnapshot());
+            assertEquals(expectedItem.getOptionsPriceTotalSnapshot(), actualItem.getOptionsPriceTotalSnapshot());
+            assertEquals(expectedItem.getItemPriceGrossSnapshot(), actualItem.getItemPriceGrossSnapshot());
+            assertEquals(expectedItem.getSelectedOptions(), actualItem.getSelectedOptions());
+        }
+    }
+
+    private List<CatalogProduct> randomCatalog(Random random, int deltaScale) {
+        List<CatalogProduct> products = new ArrayList<>();
+        int productCount = 1 + random.nextInt(8);
+        for (int productIndex = 0; productIndex < productCount; productIndex++) {
+            List<OptionGroupDefinition> groups = new ArrayList<>();
+            int groupCount = random.nextInt(4);
+            for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+                List<OptionValueDefinition> values = new ArrayList<>();
+                int valueCount = 1 + random.nextInt(5);
+                for (int valueIndex = 0; valueIndex < valueCount; valueIndex++) {
+                    values.add(new OptionValueDefinition("value-" + valueIndex, BigDecimal.valueOf(random.nextInt(500), deltaScale)));
+                }
+                OptionGroupDefinition.GroupType type = random.nextBoolean()
+                        ? OptionGroupDefinition.GroupType.single
+                        : OptionGroupDefinition.GroupType.multi;
+                groups.add(new OptionGroupDefinition("group-" + groupIndex, "Group " + groupIndex, type, values));
+            }
+            products.add(CatalogProduct.of(
+                    UUID.randomUUID(),
+                    0L,
+                    "Product " + productIndex,
+                    BigDecimal.valueOf(100 + random.nextInt(2000), 2),
+                    "EUR",
+                    true,
+                    CompiledOptions.compile(new OptionsDefinition(groups))
+            ));
+        }
+        return products;
+    }
+
+    private List<OrderItemRequest> randomOrder(Random random, List<CatalogProduct> products) {
+        List<OrderItemRequest> items = new ArrayList<>();
+        int itemCount = 1 + random.nextInt(6);
+        for (int itemIndex = 0; itemIndex < itemCount; itemIndex++) {
+            CatalogProduct product = products.get(random.nextInt(products.size()));
+            Map<String, Object> selection = new HashMap<>();
+            for (int groupIndex = 0; groupIndex < 4; groupIndex++) {
+                CompiledOptions.CompiledGroup group = product.options().group("group-" + groupIndex);
+                if (group == null || random.nextInt(3) == 0) {
+                    continue;
+                }
+                List<String> labels = new ArrayList<>(group.values().keySet());
+                if (group.type() == OptionGroupDefinition.GroupType.single) {
+                    selection.put(group.id(), labels.get(random.nextInt(labels.size())));
+                } else {
+                    selection.put(group.id(), labels.subList(0, 1 + random.nextInt(labels.size())));
+                }
+            }
+            items.add(item(product, 1 + random.nextInt(50), selection));
+        }
+        return items;
+    }
+
+    private CatalogProduct product(BigDecimal price, List<OptionValueDefinition> values) {
+        OptionsDefinition definition = values.isEmpty()
+                ? new OptionsDefinition(List.of())
+                : new OptionsDefinition(List.of(new OptionGroupDefinition("group", "Group", OptionGroupDefinition.GroupType.single, values)));
+        return CatalogProduct.of(UUID.randomUUID(), 0L, "Product", price, "EUR", true, CompiledOptions.compile(definition));
+    }
+
+    private OrderItemRequest item(CatalogProduct product, int quantity, Map<String, Object> selection) {
+        OrderItemRequest request = new OrderItemRequest();
+        request.setProductId(product.id().toString());
+        request.setQuantity(quantity);
+        request.setSelectedOptions(selection);
+        return request;
+    }
+}
@@ -0,0 +1,131 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyStoreTest {
+
+    private static final Map<String, Object> REQUEST = Map.of("customerName", "Alex", "items", List.of("fries"));
+
+    private MutableClock clock;
+    private IdempotencyStore store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        store = new IdempotencyStore(Duration.ofMinutes(10), 2, clock, new ObjectMapper());
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void replaysStoredResponseUntilTtlExpires() {
+        IdempotencyStore.Outcome<String> first = store.execute("key-1", "create:device", REQUEST, this::createOrder);
+        IdempotencyStore.Outcome<String> retry = store.execute("key-1", "create:device", REQUEST, this::createOrder);
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(first.response(), retry.response());
+        assertEquals(1, executions.get());
+
+        clock.advance(Duration.ofMinutes(11));
+        assertFalse(store.execute("key-1", "create:device", REQUEST, this::createOrder).replayed());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void runsEveryRequestWithoutKey() {
+        store.execute(null, "create:device", REQUEST, this::createOrder);
+        store.execute(null, "create:device", REQUEST, this::createOrder);
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void keysAreScoped() {
+        store.execute("key-1", "create:device-a", REQUEST, this::createOrder);
+        store.execute("key-1", "create:device-b", REQUEST, this::createOrder);
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void rejectsReusedKeyWithDifferentRequest() {
+        store.execute("key-1", "create:device", REQUEST, this::createOrder);
+        assertThrows(ResponseStatusException.class,
+                () -> store.execute("key-1", "create:device", Map.of("customerName", "Sam"), this::createOrder));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void doesNotStoreFailures() {
+        assertThrows(IllegalStateException.class, () -> store.execute("key-1", "create:device", REQUEST, () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertFalse(store.execute("key-1", "create:device", REQUEST, this::createOrder).replayed());
+    }
+
+    @Test
+    void staysWithinMaximumSize() {
+        store.execute("key-1", "create:device", REQUEST, this::createOrder);
+        store.execute("key-2", "create:device", REQUEST, this::createOrder);
+        store.execute("key-3", "create:device", REQUEST, this::createOrder);
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void sharesOneExecutionBetweenConcurrentDuplicates() throws Exception {
+        CountDownLatch executionStarted = new CountDownLatch(1);
+        CountDownLatch releaseExecution = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<IdempotencyStore.Outcome<String>> first = executor.submit(() -> store.execute("key-1", "create:device", REQUEST, () -> {
+                executionStarted.countDown();
+                await(releaseExecution);
+                return createOrder();
+            }));
+            assertTrue(executionStarted.await(5, TimeUnit.SECONDS));
+            Future<IdempotencyStore.Outcome<String>> second = executor.submit(() -> store.execute("key-1", "create:device", REQUEST, this::createOrder));
+            Future<IdempotencyStore.Outcome<String>> third = executor.submit(() -> store.execute("key-1", "create:device", REQUEST, this::createOrder));
+            Thread.sleep(50);
+            releaseExecution.countDown();
+
+            String created = first.get(5, TimeUnit.SECONDS).response();
+            assertEquals(created, second.get(5, TimeUnit.SECONDS).response());
+            assertEquals(created, third.get(5, TimeUnit.SECONDS).response());
+            assertTrue(second.get().replayed());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String createOrder() {
+        return "order-" + executions.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
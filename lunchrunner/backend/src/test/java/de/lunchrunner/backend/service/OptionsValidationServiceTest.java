@@ -70,4 +70,27 @@ class OptionsValidationServiceTest {
                 "extras", List.of("Bacon")
         )));
     }
+
+    @Test
+    void acceptsValidDefinition() {
+        assertDoesNotThrow(() -> optionsValidationService.validateDefinition(optionsDefinition));
+    }
+
+    @Test
+    void rejectsDuplicateGroupIds() {
+        OptionGroupDefinition duplicate = new OptionGroupDefinition(
+                "sauce",
+                "More sauce",
+                OptionGroupDefinition.GroupType.single,
+                List.of(new OptionValueDefinition("Mayo", new BigDecimal("0.10")))
+        );
+        OptionsDefinition definition = new OptionsDefinition(List.of(optionsDefinition.getGroups().get(0), duplicate));
+        assertThrows(IllegalArgumentException.class, () -> optionsValidationService.validateDefinition(definition));
+    }
+
+    @Test
+    void rejectsGroupWithoutValues() {
+        OptionGroupDefinition empty = new OptionGroupDefinition("drinks", "Drinks", OptionGroupDefinition.GroupType.multi, List.of());
+        assertThrows(IllegalArgumentException.class, () -> optionsValidationService.validateDefinition(new OptionsDefinition(List.of(empty))));
+    }
 }
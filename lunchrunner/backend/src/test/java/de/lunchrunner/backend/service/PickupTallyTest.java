@@ -0,0 +1,83 @@
+package de.lunchrunner.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.model.order.OrderItemSnapshot;
+import de.lunchrunner.backend.web.dto.PickupLineResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PickupTallyTest {
+
+    private PickupTally tally;
+
+    @BeforeEach
+    void setUp() {
+        tally = new PickupTally(new ObjectMapper());
+    }
+
+    @Test
+    void groupsItemsWithEquivalentOptions() {
+        tally.apply(UUID.randomUUID(), OffsetDateTime.now(), List.of(
+                burger(2, Map.of("sauce", "BBQ", "extras", List.of("Cheese", "Onions")), "15.00")
+        ));
+        tally.apply(UUID.randomUUID(), OffsetDateTime.now(), List.of(
+                burger(1, Map.of("extras", List.of("Onions", "Cheese"), "sauce", "BBQ"), "7.50"),
+                burger(1, Map.of("sauce", "Ketchup"), "6.50")
+        ));
+
+        List<PickupLineResponse> lines = tally.lines();
+        assertEquals(2, lines.size());
+        PickupLineResponse bbq = lines.stream().filter(line -> line.quantity() == 3).findFirst().orElseThrow();
+        assertEquals(new BigDecimal("22.50"), bbq.totalPriceGross());
+    }
+
+    @Test
+    void replacesContributionOnUpdateAndRemovesOnDelete() {
+        UUID orderId = UUID.randomUUID();
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        tally.apply(orderId, createdAt, List.of(burger(2, Map.of(), "13.00")));
+        tally.drainChanges();
+
+        tally.apply(orderId, createdAt.plusSeconds(5), List.of(burger(3, Map.of(), "19.50")));
+        assertEquals(3, tally.lines().get(0).quantity());
+        assertEquals(1, tally.drainChanges().size());
+
+        tally.withdraw(orderId);
+        assertTrue(tally.lines().isEmpty());
+        List<PickupLineResponse> changes = tally.drainChanges();
+        assertEquals(1, changes.size());
+        assertEquals(0, changes.get(0).quantity());
+    }
+
+    @Test
+    void ignoresOutdatedUpdates() {
+        UUID orderId = UUID.randomUUID();
+        OffsetDateTime updatedAt = OffsetDateTime.now();
+        tally.apply(orderId, updatedAt, List.of(burger(4, Map.of(), "26.00")));
+        tally.apply(orderId, updatedAt.minusSeconds(1), List.of(burger(1, Map.of(), "6.50")));
+
+        assertEquals(4, tally.lines().get(0).quantity());
+    }
+
+    private OrderItemSnapshot burger(int quantity, Map<String, Object> options, String total) {
+        return new OrderItemSnapshot(
+                "burger",
+                "Classic Burger",
+                new BigDecimal("6.50"),
+                "EUR",
+                quantity,
+                options,
+                BigDecimal.ZERO,
+                new BigDecimal(total)
+        );
+    }
+}
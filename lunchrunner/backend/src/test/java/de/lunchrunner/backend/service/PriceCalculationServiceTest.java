@@ -1,11 +1,12 @@
 package de.lunchrunner.backend.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import de.lunchrunner.backend.data.entity.ProductEntity;
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.model.options.CompiledOptions;
 import de.lunchrunner.backend.model.options.OptionGroupDefinition;
 import de.lunchrunner.backend.model.options.OptionValueDefinition;
 import de.lunchrunner.backend.model.options.OptionsDefinition;
 import de.lunchrunner.backend.web.dto.OrderItemRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.server.ResponseStatusException;
@@ -21,50 +22,55 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class PriceCalculationServiceTest {
 
     private PriceCalculationService priceCalculationService;
-    private ProductEntity burgerProduct;
+    private CatalogProduct burgerProduct;
+    private CatalogSnapshot catalog;
 
     @BeforeEach
     void setUp() {
         OptionsValidationService validationService = new OptionsValidationService();
-        priceCalculationService = new PriceCalculationService(validationService, new ObjectMapper());
-        burgerProduct = new ProductEntity();
-        burgerProduct.setId(UUID.randomUUID());
-        burgerProduct.setProductName("Classic Burger");
-        burgerProduct.setProductPriceGross(new BigDecimal("6.50"));
-        burgerProduct.setCurrencyCode("EUR");
-        burgerProduct.setOptionsDefinition(new ObjectMapper().valueToTree(new OptionsDefinition(List.of(
-                new OptionGroupDefinition(
-                        "sauce",
-                        "Sauce",
-                        OptionGroupDefinition.GroupType.single,
-                        List.of(
-                                new OptionValueDefinition("Ketchup", new BigDecimal("0.00")),
-                                new OptionValueDefinition("BBQ", new BigDecimal("0.20"))
+        priceCalculationService = new PriceCalculationService(validationService, new ApplicationProperties(), new SimpleMeterRegistry());
+        burgerProduct = CatalogProduct.of(
+                UUID.randomUUID(),
+                0L,
+                "Classic Burger",
+                new BigDecimal("6.50"),
+                "EUR",
+                true,
+                CompiledOptions.compile(new OptionsDefinition(List.of(
+                        new OptionGroupDefinition(
+                                "sauce",
+                                "Sauce",
+                                OptionGroupDefinition.GroupType.single,
+                                List.of(
+                                        new OptionValueDefinition("Ketchup", new BigDecimal("0.00")),
+                                        new OptionValueDefinition("BBQ", new BigDecimal("0.20"))
+                                )
+                        ),
+                        new OptionGroupDefinition(
+                                "extras",
+                                "Extras",
+                                OptionGroupDefinition.GroupType.multi,
+                                List.of(
+                                        new OptionValueDefinition("Onions", new BigDecimal("0.10")),
+                                        new OptionValueDefinition("Cheese", new BigDecimal("0.40"))
+                                )
                         )
-                ),
-                new OptionGroupDefinition(
-                        "extras",
-                        "Extras",
-                        OptionGroupDefinition.GroupType.multi,
-                        List.of(
-                                new OptionValueDefinition("Onions", new BigDecimal("0.10")),
-                                new OptionValueDefinition("Cheese", new BigDecimal("0.40"))
-                        )
-                )
-        ))));
+                )))
+        );
+        catalog = CatalogSnapshot.of(1, List.of(burgerProduct));
     }
 
     @Test
     void calculatesTotalsCorrectly() {
         OrderItemRequest request = new OrderItemRequest();
-        request.setProductId(burgerProduct.getId().toString());
+        request.setProductId(burgerProduct.id().toString());
         request.setQuantity(2);
         request.setSelectedOptions(Map.of(
                 "sauce", "BBQ",
                 "extras", List.of("Onions", "Cheese")
         ));
 
-        OrderCalculationResult result = priceCalculationService.calculate(List.of(burgerProduct), List.of(request), "EUR");
+        OrderCalculationResult result = priceCalculationService.calculate(catalog, List.of(request), "EUR");
         assertEquals(new BigDecimal("13.60"), result.totalPriceGross());
         assertEquals(1, result.items().size());
         assertEquals(new BigDecimal("6.80"), result.items().get(0).getItemPriceGrossSnapshot());
@@ -77,15 +83,15 @@ class PriceCalculationServiceTest {
         request.setProductId(UUID.randomUUID().toString());
         request.setQuantity(1);
         assertThrows(ResponseStatusException.class,
-                () -> priceCalculationService.calculate(List.of(), List.of(request), "EUR"));
+                () -> priceCalculationService.calculate(CatalogSnapshot.of(1, List.of()), List.of(request), "EUR"));
     }
 
     @Test
     void throwsOnInvalidOption() {
         OrderItemRequest request = new OrderItemRequest();
-        request.setProductId(burgerProduct.getId().toString());
+        request.setProductId(burgerProduct.id().toString());
         request.setQuantity(1);
         request.setSelectedOptions(Map.of("sauce", "Mustard"));
-        assertThrows(IllegalArgumentException.class, () -> priceCalculationService.calculate(List.of(burgerProduct), List.of(request), "EUR"));
+        assertThrows(IllegalArgumentException.class, () -> priceCalculationService.calculate(catalog, List.of(request), "EUR"));
     }
 }
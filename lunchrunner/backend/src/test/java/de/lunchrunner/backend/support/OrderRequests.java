@@ -0,0 +1,35 @@
+package de.lunchrunner.backend.support;
+
+import de.lunchrunner.backend.web.dto.OrderItemRequest;
+import de.lunchrunner.backend.web.dto.OrderRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class OrderRequests {
+
+    private OrderRequests() {
+    }
+
+    public static OrderRequest newOrderRequest(String productId, String customerName) {
+        OrderItemRequest itemRequest = new OrderItemRequest();
+        itemRequest.setProductId(productId);
+        itemRequest.setQuantity(1);
+        itemRequest.setSelectedOptions(Map.of());
+
+        OrderRequest orderRequest = new OrderRequest();
+        orderRequest.setCustomerName(customerName);
+        orderRequest.setItems(List.of(itemRequest));
+        return orderRequest;
+    }
+
+    public static HttpHeaders deviceHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.add("x-device-id", UUID.randomUUID().toString());
+        return headers;
+    }
+}
@@ -0,0 +1,190 @@
+package de.lunchrunner.benchmarks;
+
+import de.lunchrunner.backend.data.entity.ProductEntity;
+import de.lunchrunner.backend.data.repository.ProductRepository;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+final class ActiveProductsRepository implements ProductRepository {
+
+    private final List<ProductEntity> activeProducts;
+
+    ActiveProductsRepository(List<ProductEntity> activeProducts) {
+        this.activeProducts = List.copyOf(activeProducts);
+    }
+
+    @Override
+    public List<ProductEntity> findByProductActiveTrueOrderByProductNameAsc() {
+        return activeProducts;
+    }
+
+    @Override
+    public List<ProductEntity> findAllByOrderByProductNameAsc() {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> S save(S entity) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> List<S> saveAll(Iterable<S> entities) {
+        throw unsupported();
+    }
+
+    @Override
+    public Optional<ProductEntity> findById(UUID id) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        throw unsupported();
+    }
+
+    @Override
+    public List<ProductEntity> findAll() {
+        throw unsupported();
+    }
+
+    @Override
+    public List<ProductEntity> findAllById(Iterable<UUID> ids) {
+        throw unsupported();
+    }
+
+    @Override
+    public long count() {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        throw unsupported();
+    }
+
+    @Override
+    public void delete(ProductEntity entity) {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends UUID> ids) {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends ProductEntity> entities) {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteAll() {
+        throw unsupported();
+    }
+
+    @Override
+    public List<ProductEntity> findAll(Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<ProductEntity> findAll(Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public void flush() {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> S saveAndFlush(S entity) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> List<S> saveAllAndFlush(Iterable<S> entities) {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<ProductEntity> entities) {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<UUID> ids) {
+        throw unsupported();
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        throw unsupported();
+    }
+
+    @Override
+    @Deprecated
+    public ProductEntity getOne(UUID id) {
+        throw unsupported();
+    }
+
+    @Override
+    @Deprecated
+    public ProductEntity getById(UUID id) {
+        throw unsupported();
+    }
+
+    @Override
+    public ProductEntity getReferenceById(UUID id) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> Optional<S> findOne(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> List<S> findAll(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> long count(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity> boolean exists(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends ProductEntity, R> R findBy(Example<S> example,
+                                                 Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not used by ProductResponseBenchmark");
+    }
+}
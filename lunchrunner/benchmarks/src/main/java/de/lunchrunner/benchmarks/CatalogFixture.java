@@ -0,0 +1,103 @@
+package de.lunchrunner.benchmarks;
+
+import de.lunchrunner.backend.model.options.CompiledOptions;
+import de.lunchrunner.backend.model.options.OptionGroupDefinition;
+import de.lunchrunner.backend.model.options.OptionValueDefinition;
+import de.lunchrunner.backend.model.options.OptionsDefinition;
+import de.lunchrunner.backend.service.CatalogProduct;
+import de.lunchrunner.backend.service.CatalogSnapshot;
+import de.lunchrunner.backend.web.dto.OrderItemRequest;
+import de.lunchrunner.backend.web.dto.OrderRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+final class CatalogFixture {
+
+    private static final int VALUES_PER_GROUP = 5;
+
+    private final Random random;
+    private final List<OptionsDefinition> definitions = new ArrayList<>();
+    private final List<CatalogProduct> products = new ArrayList<>();
+    private final CatalogSnapshot catalog;
+
+    CatalogFixture(long seed, int catalogSize, int optionGroups) {
+        this.random = new Random(seed);
+        for (int productIndex = 0; productIndex < catalogSize; productIndex++) {
+            OptionsDefinition definition = options(optionGroups);
+            definitions.add(definition);
+            products.add(CatalogProduct.of(
+                    UUID.randomUUID(),
+                    0L,
+                    "Product " + productIndex,
+                    BigDecimal.valueOf(250 + random.nextInt(1500), 2),
+                    "EUR",
+                    true,
+                    CompiledOptions.compile(definition)
+            ));
+        }
+        this.catalog = CatalogSnapshot.of(1, products);
+    }
+
+    CatalogSnapshot catalog() {
+        return catalog;
+    }
+
+    List<CatalogProduct> products() {
+        return products;
+    }
+
+    OptionsDefinition definition(int productIndex) {
+        return definitions.get(productIndex);
+    }
+
+    OrderRequest order(int itemsPerOrder) {
+        List<OrderItemRequest> items = new ArrayList<>();
+        for (int itemIndex = 0; itemIndex < itemsPerOrder; itemIndex++) {
+            int productIndex = random.nextInt(products.size());
+            OrderItemRequest item = new OrderItemRequest();
+            item.setProductId(products.get(productIndex).id().toString());
+            item.setQuantity(1 + random.nextInt(3));
+            item.setSelectedOptions(selection(definitions.get(productIndex)));
+            items.add(item);
+        }
+        OrderRequest request = new OrderRequest();
+        request.setCustomerName("Benchmark");
+        request.setCurrencyCode("EUR");
+        request.setItems(items);
+        return request;
+    }
+
+    private OptionsDefinition options(int optionGroups) {
+        List<OptionGroupDefinition> groups = new ArrayList<>();
+        for (int groupIndex = 0; groupIndex < optionGroups; groupIndex++) {
+            List<OptionValueDefinition> values = new ArrayList<>();
+            for (int valueIndex = 0; valueIndex < VALUES_PER_GROUP; valueIndex++) {
+                values.add(new OptionValueDefinition("value-" + valueIndex, BigDecimal.valueOf(random.nextInt(300), 2)));
+            }
+            OptionGroupDefinition.GroupType type = groupIndex % 2 == 0
+                    ? OptionGroupDefinition.GroupType.single
+                    : OptionGroupDefinition.GroupType.multi;
+            groups.add(new OptionGroupDefinition("group-" + groupIndex, "Group " + groupIndex, type, values));
+        }
+        return new OptionsDefinition(groups);
+    }
+
+    Map<String, Object> selection(OptionsDefinition definition) {
+        Map<String, Object> selection = new HashMap<>();
+        for (OptionGroupDefinition group : definition.getGroups()) {
+            List<String> labels = group.getValues().stream().map(OptionValueDefinition::getLabel).toList();
+            if (group.getType() == OptionGroupDefinition.GroupType.single) {
+                selection.put(group.getId(), labels.get(random.nextInt(labels.size())));
+            } else {
+                selection.put(group.getId(), labels.subList(0, 1 + random.nextInt(labels.size())));
+            }
+        }
+        return selection;
+    }
+}
@@ -0,0 +1,54 @@
+package de.lunchrunner.benchmarks;
+
+import de.lunchrunner.backend.model.options.CompiledOptions;
+import de.lunchrunner.backend.model.options.OptionsDefinition;
+import de.lunchrunner.backend.service.OptionsValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionsValidationBenchmark {
+
+    @Param({"1", "4", "12"})
+    private int optionGroups;
+
+    private final OptionsValidationService optionsValidationService = new OptionsValidationService();
+    private OptionsDefinition definition;
+    private CompiledOptions compiled;
+    private Map<String, Object> selection;
+
+    @Setup
+    public void setUp() {
+        CatalogFixture fixture = new CatalogFixture(42L, 1, optionGroups);
+        definition = fixture.definition(0);
+        compiled = fixture.products().get(0).options();
+        selection = fixture.selection(definition);
+    }
+
+    @Benchmark
+    public void validateCompiled() {
+        optionsValidationService.validateSelection(compiled, selection);
+    }
+
+    @Benchmark
+    public void validateDefinition() {
+        optionsValidationService.validateSelection(definition, selection);
+    }
+}
@@ -0,0 +1,77 @@
+package de.lunchrunner.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.service.OptionsValidationService;
+import de.lunchrunner.backend.service.OrderCalculationResult;
+import de.lunchrunner.backend.service.PriceCalculationService;
+import de.lunchrunner.backend.web.dto.OrderRequest;
+import de.lunchrunner.backend.web.dto.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderJsonBenchmark {
+
+    @Param({"0", "4", "12"})
+    private int optionGroups;
+
+    @Param({"1", "5", "20"})
+    private int itemsPerOrder;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestJson;
+    private OrderResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        CatalogFixture fixture = new CatalogFixture(99L, 50, optionGroups);
+        OrderRequest request = fixture.order(itemsPerOrder);
+        OrderCalculationResult result = new PriceCalculationService(new OptionsValidationService(), new ApplicationProperties(), new SimpleMeterRegistry())
+                .calculate(fixture.catalog(), request.getItems(), "EUR");
+        OffsetDateTime now = OffsetDateTime.parse("2025-01-01T11:30:00Z");
+        response = new OrderResponse(UUID.randomUUID().toString(), UUID.randomUUID().toString(), request.getCustomerName(),
+                result.items(), result.totalPriceGross(), result.currencyCode(), now, now, 0L);
+        requestReader = objectMapper.readerFor(OrderRequest.class);
+        responseWriter = objectMapper.writerFor(OrderResponse.class);
+        requestJson = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public OrderRequest readRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,63 @@
+package de.lunchrunner.benchmarks;
+
+import de.lunchrunner.backend.config.ApplicationProperties;
+import de.lunchrunner.backend.service.CatalogSnapshot;
+import de.lunchrunner.backend.service.OptionsValidationService;
+import de.lunchrunner.backend.service.OrderCalculationResult;
+import de.lunchrunner.backend.service.PriceCalculationService;
+import de.lunchrunner.backend.web.dto.OrderItemRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int catalogSize;
+
+    @Param({"0", "4", "12"})
+    private int optionGroups;
+
+    @Param({"1", "5", "20"})
+    private int itemsPerOrder;
+
+    @Param({"DECIMAL", "FIXED_POINT"})
+    private ApplicationProperties.PricingMode pricingMode;
+
+    private PriceCalculationService priceCalculationService;
+    private CatalogSnapshot catalog;
+    private List<OrderItemRequest> items;
+
+    @Setup
+    public void setUp() {
+        CatalogFixture fixture = new CatalogFixture(20250101L, catalogSize, optionGroups);
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.setPricingMode(pricingMode);
+        priceCalculationService = new PriceCalculationService(new OptionsValidationService(), properties, new SimpleMeterRegistry());
+        catalog = fixture.catalog();
+        items = fixture.order(itemsPerOrder).getItems();
+    }
+
+    @Benchmark
+    public OrderCalculationResult calculate() {
+        return priceCalculationService.calculate(catalog, items, "EUR");
+    }
+}
@@ -0,0 +1,67 @@
+package de.lunchrunner.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.lunchrunner.backend.data.entity.ProductEntity;
+import de.lunchrunner.backend.service.ProductService;
+import de.lunchrunner.backend.web.dto.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductResponseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int catalogSize;
+
+    @Param({"0", "4", "12"})
+    private int optionGroups;
+
+    private ProductService productService;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CatalogFixture fixture = new CatalogFixture(7L, catalogSize, optionGroups);
+        List<ProductEntity> entities = new ArrayList<>();
+        for (int index = 0; index < catalogSize; index++) {
+            ProductEntity entity = new ProductEntity();
+            entity.setId(fixture.products().get(index).id());
+            entity.setProductName(fixture.products().get(index).productName());
+            entity.setProductPriceGross(fixture.products().get(index).productPriceGross());
+            entity.setCurrencyCode("EUR");
+            entity.setProductCategory("Benchmark");
+            entity.setProductActive(true);
+            entity.setOptionsDefinition(objectMapper.valueToTree(fixture.definition(index)));
+            entity.setCreatedAt(OffsetDateTime.parse("2025-01-01T10:00:00Z"));
+            entity.setUpdatedAt(OffsetDateTime.parse("2025-01-01T10:00:00Z"));
+            entities.add(entity);
+        }
+        productService = new ProductService(new ActiveProductsRepository(entities), objectMapper, event -> {
+        });
+    }
+
+    @Benchmark
+    public List<ProductResponse> toResponses() {
+        return productService.getActiveProducts();
+    }
+}
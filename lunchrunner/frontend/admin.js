@@ -402,6 +402,11 @@ function initializeSocketListeners() {
   socket.on("productsUpdated", () => {
     loadProducts();
   });
+  socket.on("boardChanged", (message) => {
+    if (message.changes.some((change) => change.type === "productChanged")) {
+      loadProducts();
+    }
+  });
 }
 
 newProductButton.addEventListener("click", () => {
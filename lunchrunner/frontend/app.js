@@ -25,11 +25,21 @@ const productSelectElement = document.querySelector("#productSelect");
 const optionsContainerElement = document.querySelector("#optionsContainer");
 const orderFormElement = document.querySelector("#orderForm");
 const ordersListElement = document.querySelector("#ordersList");
+const pickupListElement = document.querySelector("#pickupList");
 const customerNameElement = document.querySelector("#customerName");
 const productQuantityElement = document.querySelector("#productQuantity");
 
 let productsCache = [];
 let ordersCache = [];
+let pickupLines = [];
+let boardSequence = null;
+let pendingResync = null;
+let latestSeenSequence = null;
+
+function readBoardSequence(response) {
+  const value = Number(response.headers.get("X-Board-Sequence"));
+  return Number.isFinite(value) ? value : null;
+}
 
 async function loadProducts() {
   const response = await fetch(`${apiBaseUrl}/products`);
@@ -38,6 +48,7 @@ async function loadProducts() {
   }
   productsCache = await response.json();
   updateProductSelect();
+  return readBoardSequence(response);
 }
 
 async function loadOrders() {
@@ -47,6 +58,107 @@ async function loadOrders() {
   }
   ordersCache = await response.json();
   renderOrders();
+  return readBoardSequence(response);
+}
+
+async function loadPickupList() {
+  const response = await fetch(`${apiBaseUrl}/orders/pickup-list`);
+  if (!response.ok) {
+    throw new Error("Failed to load pickup list");
+  }
+  pickupLines = await response.json();
+  renderPickupList();
+  return readBoardSequence(response);
+}
+
+async function resynchronizeBoard() {
+  const sequences = await Promise.all([loadProducts(), loadOrders(), loadPickupList()]);
+  const known = sequences.filter((sequence) => sequence !== null);
+  boardSequence = known.length ? Math.min(...known) : null;
+}
+
+function requestBoardResync() {
+  if (pendingResync) {
+    return pendingResync;
+  }
+  pendingResync = resynchronizeBoard()
+    .catch((error) => console.error("Board resync failed", error))
+    .finally(() => {
+      pendingResync = null;
+      if (latestSeenSequence !== null && (boardSequence === null || latestSeenSequence > boardSequence)) {
+        latestSeenSequence = null;
+        requestBoardResync();
+      }
+    });
+  return pendingResync;
+}
+
+function acceptBoardEvent(sequence) {
+  if (pendingResync) {
+    latestSeenSequence = latestSeenSequence === null ? sequence : Math.max(latestSeenSequence, sequence);
+    return false;
+  }
+  if (boardSequence !== null && sequence <= boardSequence) {
+    return false;
+  }
+  if (boardSequence === null || sequence !== boardSequence + 1) {
+    requestBoardResync();
+    return false;
+  }
+  boardSequence = sequence;
+  return true;
+}
+
+function applyBoardChanges(message) {
+  for (const change of message.changes) {
+    if (change.type === "orderCreated" || change.type === "orderUpdated") {
+      const index = ordersCache.findIndex((entry) => entry.id === change.id);
+      if (index === -1) {
+        ordersCache.push(change.order);
+      } else {
+        ordersCache[index] = change.order;
+      }
+    } else if (change.type === "orderDeleted") {
+      ordersCache = ordersCache.filter((entry) => entry.id !== change.id);
+    } else if (change.type === "productChanged") {
+      applyProductChange(change.id, change.product);
+    }
+  }
+  applyPickupChanges(message.pickupLines);
+  renderOrders();
+}
+
+function applyPickupChanges(lines) {
+  for (const line of lines) {
+    const index = pickupLines.findIndex(
+      (entry) => entry.productId === line.productId && entry.optionsHash === line.optionsHash
+    );
+    if (line.quantity <= 0) {
+      if (index !== -1) {
+        pickupLines.splice(index, 1);
+      }
+    } else if (index === -1) {
+      pickupLines.push(line);
+    } else {
+      pickupLines[index] = line;
+    }
+  }
+  pickupLines.sort((left, right) => (left.productName || "").localeCompare(right.productName || ""));
+  renderPickupList();
+}
+
+function applyProductChange(productId, product) {
+  productsCache = productsCache.filter((entry) => entry.id !== productId);
+  if (product && product.productActive) {
+    productsCache.push(product);
+    productsCache.sort((left, right) => left.productName.localeCompare(right.productName));
+  }
+  const selectedProductId = productSelectElement.value;
+  updateProductSelect();
+  if (productsCache.some((entry) => entry.id === selectedProductId)) {
+    productSelectElement.value = selectedProductId;
+    buildOptionFields();
+  }
 }
 
 function updateProductSelect() {
@@ -189,7 +301,7 @@ function renderOrders() {
       const deleteButton = document.createElement("button");
       deleteButton.classList.add("secondary");
       deleteButton.textContent = "Delete";
-      deleteButton.addEventListener("click", () => deleteOrder(order.id));
+      deleteButton.addEventListener("click", () => deleteOrder(order));
 
       actions.append(editButton, deleteButton);
       card.append(actions);
@@ -199,19 +311,42 @@ function renderOrders() {
   }
 }
 
-async function deleteOrder(orderId) {
+function renderPickupList() {
+  pickupListElement.innerHTML = "";
+  for (const line of pickupLines) {
+    const listItem = document.createElement("li");
+    const optionDetails = [];
+    for (const [key, value] of Object.entries(line.selectedOptions || {})) {
+      optionDetails.push(`${key}: ${Array.isArray(value) ? value.join(", ") : value}`);
+    }
+    listItem.textContent = `${line.quantity} × ${line.productName} (${formatPriceAmount(
+      line.totalPriceGross,
+      line.currencyCode
+    )})${optionDetails.length ? ` – ${optionDetails.join(" | ")}` : ""}`;
+    pickupListElement.append(listItem);
+  }
+}
+
+function versionHeaders(version) {
+  return version === undefined || version === null ? {} : { "If-Match": `"${version}"` };
+}
+
+async function deleteOrder(order) {
   const confirmed = confirm("Delete this order?");
   if (!confirmed) {
     return;
   }
-  const response = await fetch(`${apiBaseUrl}/orders/${orderId}`, {
+  const response = await fetch(`${apiBaseUrl}/orders/${order.id}`, {
     method: "DELETE",
     headers: {
       "Content-Type": "application/json",
       "x-device-id": deviceId,
+      ...versionHeaders(order.version),
     },
   });
-  if (!response.ok) {
+  if (response.status === 409) {
+    alert("This order was changed in the meantime. Please check it and try again.");
+  } else if (!response.ok) {
     alert("Failed to delete order");
   }
 }
@@ -243,6 +378,7 @@ function editOrder(order) {
     }
   }
   orderFormElement.dataset.editOrderId = order.id;
+  orderFormElement.dataset.editOrderVersion = order.version ?? "";
 }
 
 orderFormElement.addEventListener("submit", async (event) => {
@@ -277,6 +413,9 @@ orderFormElement.addEventListener("submit", async (event) => {
     headers: {
       "Content-Type": "application/json",
       "x-device-id": deviceId,
+      ...(method === "PUT" && orderFormElement.dataset.editOrderVersion
+        ? versionHeaders(orderFormElement.dataset.editOrderVersion)
+        : {}),
     },
     body: JSON.stringify(payload),
   });
@@ -287,6 +426,7 @@ orderFormElement.addEventListener("submit", async (event) => {
   }
   orderFormElement.reset();
   delete orderFormElement.dataset.editOrderId;
+  delete orderFormElement.dataset.editOrderVersion;
   buildOptionFields();
 });
 
@@ -294,8 +434,9 @@ productSelectElement.addEventListener("change", () => buildOptionFields());
 
 async function initializeApplication() {
   try {
-    await Promise.all([loadProducts(), loadOrders()]);
+    await resynchronizeBoard();
     socket = await createRealtimeConnection();
+    socket.io.on("reconnect", requestBoardResync);
     socket.on("productsUpdated", (data) => {
       productsCache = data;
       updateProductSelect();
@@ -305,6 +446,18 @@ async function initializeApplication() {
       ordersCache = data;
       renderOrders();
     });
+    socket.on("pickupListUpdated", (data) => {
+      pickupLines = data;
+      renderPickupList();
+    });
+    socket.on("boardSync", (message) => {
+      boardSequence = message.sequence;
+    });
+    socket.on("boardChanged", (message) => {
+      if (acceptBoardEvent(message.sequence)) {
+        applyBoardChanges(message);
+      }
+    });
   } catch (error) {
     console.error(error);
     alert("Failed to initialize application");